@@ -4,10 +4,24 @@ import com.yourname.customkitduels.commands.CommandHandler;
 import com.yourname.customkitduels.managers.ArenaManager;
 import com.yourname.customkitduels.managers.CategoryManager;
 import com.yourname.customkitduels.managers.DuelManager;
+import com.yourname.customkitduels.managers.GUIManager;
 import com.yourname.customkitduels.managers.KitManager;
+import com.yourname.customkitduels.listeners.ArenaListener;
 import com.yourname.customkitduels.listeners.PlayerListener;
+import com.yourname.customkitduels.storage.SqliteDatabase;
+import com.yourname.customkitduels.storage.StoredArena;
+import com.yourname.customkitduels.utils.DebugLogger;
+import com.yourname.customkitduels.utils.DisplayNames;
+import com.yourname.customkitduels.utils.EnchantmentIndex;
+import com.yourname.customkitduels.utils.PotionCatalog;
+import com.yourname.customkitduels.utils.StartupLoader;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
 public class CustomKitDuels extends JavaPlugin {
     
     private static CustomKitDuels instance;
@@ -15,6 +29,9 @@ public class CustomKitDuels extends JavaPlugin {
     private ArenaManager arenaManager;
     private DuelManager duelManager;
     private CategoryManager categoryManager;
+    private GUIManager guiManager;
+    private DebugLogger debugLogger;
+    private SqliteDatabase database;
     
     @Override
     public void onEnable() {
@@ -23,11 +40,33 @@ public class CustomKitDuels extends JavaPlugin {
         // Save default config
         saveDefaultConfig();
         
+        debugLogger = new DebugLogger(this);
+        DisplayNames.load();
+        EnchantmentIndex.load();
+        PotionCatalog.load();
+        
         // Initialize managers
+        long loadStart = System.nanoTime();
         categoryManager = new CategoryManager(this);
         kitManager = new KitManager(this);
         arenaManager = new ArenaManager(this);
+        
+        // Read stored categories and arenas in parallel, only setting them up
+        // (materials, worlds) happens here on the main thread. Kits are loaded
+        // per player when they join, so there is nothing to read for them.
+        StartupLoader loader = new StartupLoader(getLogger(), 2);
+        try {
+            StartupLoader.Task<Map<String, List<String>>> categories = loader.read("categories", categoryManager::readCategories);
+            StartupLoader.Task<List<StoredArena>> arenas = loader.read("arenas", arenaManager::readArenas);
+            loader.bind(categories, categoryManager::bindCategories);
+            loader.bind(arenas, arenaManager::bindArenas);
+        } finally {
+            loader.shutdown();
+        }
+        getLogger().info(String.format("Loaded plugin data in %.1fms", (System.nanoTime() - loadStart) / 1_000_000.0));
+        
         duelManager = new DuelManager(this);
+        guiManager = new GUIManager(this);
         
         // Register commands
         CommandHandler commandHandler = new CommandHandler(this);
@@ -36,6 +75,8 @@ public class CustomKitDuels extends JavaPlugin {
         
         // Register listeners
         getServer().getPluginManager().registerEvents(new PlayerListener(this), this);
+        getServer().getPluginManager().registerEvents(new ArenaListener(arenaManager.getChangeTracker()), this);
+        getServer().getPluginManager().registerEvents(guiManager, this);
         
         getLogger().info("CustomKitDuels has been enabled!");
     }
@@ -47,6 +88,23 @@ public class CustomKitDuels extends JavaPlugin {
             duelManager.cleanupAllDuels();
         }
         
+        if (arenaManager != null) {
+            arenaManager.shutdown();
+        }
+        
+        // Write any kit saves that are still queued
+        if (kitManager != null) {
+            kitManager.shutdown();
+        }
+        
+        if (database != null) {
+            database.close();
+        }
+        
+        if (debugLogger != null) {
+            debugLogger.shutdown();
+        }
+        
         getLogger().info("CustomKitDuels has been disabled!");
     }
     
@@ -70,8 +128,28 @@ public class CustomKitDuels extends JavaPlugin {
         return categoryManager;
     }
     
+    public GUIManager getGuiManager() {
+        return guiManager;
+    }
+    
+    public DebugLogger getDebugLogger() {
+        return debugLogger;
+    }
+    
+    /**
+     * The embedded database, opened the first time a storage needs it.
+     */
+    public SqliteDatabase getDatabase() throws SQLException {
+        if (database == null) {
+            database = new SqliteDatabase(new File(getDataFolder(), "data.db"), getLogger());
+        }
+        return database;
+    }
+    
     public void reloadPluginConfig() {
         reloadConfig();
+        debugLogger.reload();
+        kitManager.reloadValidator();
         arenaManager.loadArenas();
         categoryManager.reloadCategories();
         getLogger().info("Configuration reloaded!");
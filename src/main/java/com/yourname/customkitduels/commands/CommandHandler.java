@@ -7,6 +7,11 @@ import com.yourname.customkitduels.gui.ArenaEditorGUI;
 import com.yourname.customkitduels.gui.CategoryEditorGUI;
 import com.yourname.customkitduels.gui.KitEditorGUI;
 import com.yourname.customkitduels.gui.RoundsSelectorGUI;
+import com.yourname.customkitduels.managers.ArenaPool;
+import com.yourname.customkitduels.managers.KitSaveQueue;
+import com.yourname.customkitduels.managers.SchematicCache;
+import com.yourname.customkitduels.storage.KitRevision;
+import com.yourname.customkitduels.storage.KitStorage;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -14,6 +19,10 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -21,6 +30,9 @@ import java.util.stream.Collectors;
 
 public class CommandHandler implements CommandExecutor, TabCompleter {
     
+    private static final List<String> KIT_STORAGES = Arrays.asList("yaml", "binary", "sqlite", "log");
+    private static final DateTimeFormatter REVISION_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
+    
     private final CustomKitDuels plugin;
     
     public CommandHandler(CustomKitDuels plugin) {
@@ -45,6 +57,10 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                 return handleDeleteKit(sender, args);
             case "listkits":
                 return handleListKits(sender);
+            case "kithistory":
+                return handleKitHistory(sender, args);
+            case "rollbackkit":
+                return handleRollbackKit(sender, args);
             case "duel":
                 return handleDuel(sender, args);
             case "accept":
@@ -55,6 +71,10 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                 return handleArenaCommand(sender, args);
             case "reload":
                 return handleReload(sender);
+            case "stats":
+                return handleStats(sender);
+            case "migratekits":
+                return handleMigrateKits(sender, args);
             default:
                 sender.sendMessage(ChatColor.RED + "Unknown command. Use /ckd for help.");
                 return true;
@@ -67,6 +87,10 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         sender.sendMessage(ChatColor.YELLOW + "/ckd editkit <name> - Edit an existing kit");
         sender.sendMessage(ChatColor.YELLOW + "/ckd deletekit <name> - Delete a kit");
         sender.sendMessage(ChatColor.YELLOW + "/ckd listkits - List your kits");
+        if (plugin.getKitManager().hasKitHistory()) {
+            sender.sendMessage(ChatColor.YELLOW + "/ckd kithistory <name> - List saved versions of a kit");
+            sender.sendMessage(ChatColor.YELLOW + "/ckd rollbackkit <name> <version> - Restore an earlier version of a kit");
+        }
         sender.sendMessage(ChatColor.YELLOW + "/ckd duel <player> <kit> - Challenge a player (opens rounds selector)");
         sender.sendMessage(ChatColor.YELLOW + "/ckd accept - Accept a duel request");
         sender.sendMessage(ChatColor.YELLOW + "/ckd editcategory <category> - Edit item category");
@@ -77,6 +101,8 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
             sender.sendMessage(ChatColor.YELLOW + "/ckd arena list - List all arenas");
             sender.sendMessage(ChatColor.YELLOW + "/ckd arena delete <name> - Delete an arena");
             sender.sendMessage(ChatColor.YELLOW + "/ckd reload - Reload config");
+            sender.sendMessage(ChatColor.YELLOW + "/ckd stats - Show storage statistics");
+            sender.sendMessage(ChatColor.YELLOW + "/ckd migratekits <from> <to> - Copy all kits to another storage (yaml, binary, sqlite, log)");
         }
     }
     
@@ -99,6 +125,13 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         Player player = (Player) sender;
         String kitName = args[1];
         
+        try {
+            plugin.getKitManager().checkKitsChangeable(player.getUniqueId());
+        } catch (IOException e) {
+            sender.sendMessage(ChatColor.RED + e.getMessage());
+            return true;
+        }
+        
         if (plugin.getKitManager().hasKit(player.getUniqueId(), kitName)) {
             sender.sendMessage(ChatColor.RED + "You already have a kit with that name.");
             return true;
@@ -133,7 +166,8 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
             return true;
         }
         
-        new KitEditorGUI(plugin, player, kitName).open();
+        // Kit names ignore case, keep the name the kit was saved with
+        new KitEditorGUI(plugin, player, kit.getName()).open();
         return true;
     }
     
@@ -156,10 +190,14 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         Player player = (Player) sender;
         String kitName = args[1];
         
-        if (plugin.getKitManager().deleteKit(player.getUniqueId(), kitName)) {
-            sender.sendMessage(ChatColor.GREEN + "Kit '" + kitName + "' deleted successfully.");
-        } else {
-            sender.sendMessage(ChatColor.RED + "You don't have a kit with that name.");
+        try {
+            if (plugin.getKitManager().deleteKit(player.getUniqueId(), kitName)) {
+                sender.sendMessage(ChatColor.GREEN + "Kit '" + kitName + "' deleted successfully.");
+            } else {
+                sender.sendMessage(ChatColor.RED + "You don't have a kit with that name.");
+            }
+        } catch (IOException e) {
+            sender.sendMessage(ChatColor.RED + e.getMessage());
         }
         return true;
     }
@@ -190,6 +228,114 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         return true;
     }
     
+    private boolean handleKitHistory(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player)) {
+            sender.sendMessage(ChatColor.RED + "Only players can view kit history.");
+            return true;
+        }
+        
+        if (!sender.hasPermission("customkitduels.use")) {
+            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command.");
+            return true;
+        }
+        
+        if (args.length < 2) {
+            sender.sendMessage(ChatColor.RED + "Usage: /ckd kithistory <name>");
+            return true;
+        }
+        
+        if (!plugin.getKitManager().hasKitHistory()) {
+            sender.sendMessage(ChatColor.RED + "Kit history is not kept on this server.");
+            return true;
+        }
+        
+        Player player = (Player) sender;
+        String kitName = args[1];
+        
+        plugin.getKitManager().getKitRevisions(player.getUniqueId(), kitName, revisions -> {
+            if (revisions.isEmpty()) {
+                sender.sendMessage(ChatColor.RED + "There are no saved versions of a kit with that name.");
+                return;
+            }
+            
+            sender.sendMessage(ChatColor.GOLD + "Versions of kit '" + revisions.get(0).getKit().getName() + "':");
+            for (KitRevision revision : revisions) {
+                sender.sendMessage(ChatColor.YELLOW + "#" + revision.getRevision() + ChatColor.GRAY + " - " +
+                        REVISION_TIME.format(Instant.ofEpochMilli(revision.getTimestamp())));
+            }
+            sender.sendMessage(ChatColor.GRAY + "Use /ckd rollbackkit " + kitName + " <version> to restore one.");
+        });
+        return true;
+    }
+    
+    private boolean handleRollbackKit(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player)) {
+            sender.sendMessage(ChatColor.RED + "Only players can roll back kits.");
+            return true;
+        }
+        
+        if (!sender.hasPermission("customkitduels.use")) {
+            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command.");
+            return true;
+        }
+        
+        if (args.length < 3) {
+            sender.sendMessage(ChatColor.RED + "Usage: /ckd rollbackkit <name> <version>");
+            return true;
+        }
+        
+        if (!plugin.getKitManager().hasKitHistory()) {
+            sender.sendMessage(ChatColor.RED + "Kit history is not kept on this server.");
+            return true;
+        }
+        
+        long version;
+        try {
+            version = Long.parseLong(args[2].startsWith("#") ? args[2].substring(1) : args[2]);
+        } catch (NumberFormatException e) {
+            sender.sendMessage(ChatColor.RED + "Invalid version number.");
+            return true;
+        }
+        
+        Player player = (Player) sender;
+        String kitName = args[1];
+        
+        // Only existing kits, reviving a deleted kit would get around the kit limit
+        if (!plugin.getKitManager().hasKit(player.getUniqueId(), kitName)) {
+            sender.sendMessage(ChatColor.RED + "You don't have a kit named '" + kitName + "'. Only existing kits can be rolled back.");
+            return true;
+        }
+        
+        plugin.getKitManager().getKitRevisions(player.getUniqueId(), kitName, revisions -> {
+            for (KitRevision revision : revisions) {
+                if (revision.getRevision() != version) continue;
+                
+                // The kit may have been deleted while the history was read
+                if (!plugin.getKitManager().hasKit(player.getUniqueId(), kitName)) {
+                    sender.sendMessage(ChatColor.RED + "Kit '" + kitName + "' no longer exists.");
+                    return;
+                }
+                
+                // Saved as a new version, so the rollback can itself be undone
+                List<String> problems;
+                try {
+                    problems = plugin.getKitManager().saveKit(player.getUniqueId(), revision.getKit());
+                } catch (IOException e) {
+                    sender.sendMessage(ChatColor.RED + e.getMessage());
+                    return;
+                }
+                sender.sendMessage(ChatColor.GREEN + "Kit '" + revision.getKit().getName() + "' restored to version #" + version + ".");
+                for (String problem : problems) {
+                    sender.sendMessage(ChatColor.YELLOW + problem);
+                }
+                return;
+            }
+            
+            sender.sendMessage(ChatColor.RED + "That kit has no version #" + version + ". Use /ckd kithistory " + kitName + " to list them.");
+        });
+        return true;
+    }
+    
     private boolean handleDuel(CommandSender sender, String[] args) {
         if (!(sender instanceof Player)) {
             sender.sendMessage(ChatColor.RED + "Only players can duel.");
@@ -396,15 +542,92 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         return true;
     }
     
+    private boolean handleStats(CommandSender sender) {
+        if (!sender.hasPermission("customkitduels.admin")) {
+            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command.");
+            return true;
+        }
+        
+        KitSaveQueue saveQueue = plugin.getKitManager().getSaveQueue();
+        sender.sendMessage(ChatColor.GOLD + "=== CustomKitDuels Stats ===");
+        sender.sendMessage(ChatColor.YELLOW + "Kit storage: " + ChatColor.WHITE + plugin.getKitManager().getStorage().getName());
+        sender.sendMessage(ChatColor.YELLOW + "Players with cached kits: " + ChatColor.WHITE + plugin.getKitManager().getCachedPlayerCount());
+        sender.sendMessage(ChatColor.YELLOW + "Distinct kit contents: " + ChatColor.WHITE + plugin.getKitManager().getDistinctContentCount());
+        sender.sendMessage(ChatColor.YELLOW + "Kit saves queued: " + ChatColor.WHITE + saveQueue.getQueueDepth());
+        sender.sendMessage(ChatColor.YELLOW + "Kit files written: " + ChatColor.WHITE + saveQueue.getWrittenCount() +
+                ChatColor.GRAY + " (" + saveQueue.getCoalescedCount() + " saves merged, " + saveQueue.getFailedCount() + " failed)");
+        sender.sendMessage(ChatColor.YELLOW + "Kit write time: " + ChatColor.WHITE +
+                String.format("%.2fms avg, %.2fms max", saveQueue.getAverageWriteMillis(), saveQueue.getMaxWriteMillis()));
+        
+        SchematicCache schematicCache = plugin.getArenaManager().getSchematicCache();
+        sender.sendMessage(ChatColor.YELLOW + "Cached schematics: " + ChatColor.WHITE + schematicCache.size() +
+                String.format(", %.1f of %.1f MB", schematicCache.getUsedBytes() / 1048576.0, schematicCache.getMaxBytes() / 1048576.0) +
+                ChatColor.GRAY + " (" + schematicCache.getHits() + " hits, " + schematicCache.getMisses() + " misses)");
+        
+        ArenaPool arenaPool = plugin.getArenaManager().getArenaPool();
+        sender.sendMessage(ChatColor.YELLOW + "Arenas: " + ChatColor.WHITE + arenaPool.getFreeCount() + " free, " +
+                (arenaPool.getLeasedCount() - arenaPool.getRegeneratingCount()) + " busy, " + arenaPool.getRegeneratingCount() + " regenerating" +
+                ChatColor.GRAY + " (peak " + arenaPool.getPeakLeasedCount() + " in use)");
+        sender.sendMessage(ChatColor.YELLOW + "Arena utilization: " + ChatColor.WHITE + String.format("%.1f%%", arenaPool.getAverageUtilization() * 100) +
+                ChatColor.GRAY + " (" + arenaPool.getLeaseCount() + " duels started)");
+        sender.sendMessage(ChatColor.YELLOW + "Arena queue: " + ChatColor.WHITE + arenaPool.getQueueLength() + " waiting" +
+                ChatColor.GRAY + String.format(" (peak %d, %d duels waited %.1fs avg)", arenaPool.getPeakQueueLength(),
+                arenaPool.getQueuedLeaseCount(), arenaPool.getAverageWaitSeconds()));
+        return true;
+    }
+    
+    private boolean handleMigrateKits(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("customkitduels.admin")) {
+            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command.");
+            return true;
+        }
+        
+        if (args.length < 3) {
+            sender.sendMessage(ChatColor.RED + "Usage: /ckd migratekits <from> <to>");
+            return true;
+        }
+        
+        KitStorage source = plugin.getKitManager().createStorage(args[1]);
+        KitStorage target = plugin.getKitManager().createStorage(args[2]);
+        if (source == null || target == null) {
+            sender.sendMessage(ChatColor.RED + "Unknown storage. Use: " + String.join(", ", KIT_STORAGES));
+            return true;
+        }
+        
+        if (source.getName().equals(target.getName())) {
+            sender.sendMessage(ChatColor.RED + "Source and target storage must be different.");
+            return true;
+        }
+        
+        // Live saves keep going to the current storage and would race the migration
+        if (target.getName().equals(plugin.getKitManager().getStorage().getName())) {
+            sender.sendMessage(ChatColor.RED + "Can't migrate into the storage that is currently in use.");
+            return true;
+        }
+        
+        sender.sendMessage(ChatColor.YELLOW + "Migrating kits from " + source.getName() + " to " + target.getName() + "...");
+        plugin.getKitManager().migrateKits(source, target, migration -> {
+            sender.sendMessage(ChatColor.GREEN + "Migrated " + migration.getKitsMigrated() + " kits for " +
+                    migration.getPlayersMigrated() + " players in " + migration.getElapsedMillis() + "ms.");
+            if (migration.getFailures() > 0) {
+                sender.sendMessage(ChatColor.RED + "" + migration.getFailures() + " players could not be migrated, see the console for details.");
+            }
+            sender.sendMessage(ChatColor.YELLOW + "Set storage.kits to '" + target.getName() + "' in config.yml and restart to use it.");
+        });
+        return true;
+    }
+    
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         List<String> completions = new ArrayList<>();
         
         if (args.length == 1) {
-            List<String> commands = Arrays.asList("createkit", "editkit", "deletekit", "listkits", "duel", "accept", "editcategory");
+            List<String> commands = new ArrayList<>(Arrays.asList("createkit", "editkit", "deletekit", "listkits", "duel", "accept", "editcategory"));
+            if (plugin.getKitManager().hasKitHistory()) {
+                commands.addAll(Arrays.asList("kithistory", "rollbackkit"));
+            }
             if (sender.hasPermission("customkitduels.admin")) {
-                commands = new ArrayList<>(commands);
-                commands.addAll(Arrays.asList("arena", "reload"));
+                commands.addAll(Arrays.asList("arena", "reload", "stats", "migratekits"));
             }
             
             return commands.stream()
@@ -416,7 +639,8 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                         .map(Player::getName)
                         .filter(name -> name.toLowerCase().startsWith(args[1].toLowerCase()))
                         .collect(Collectors.toList());
-            } else if (args[0].equalsIgnoreCase("editkit") || args[0].equalsIgnoreCase("deletekit")) {
+            } else if (args[0].equalsIgnoreCase("editkit") || args[0].equalsIgnoreCase("deletekit") ||
+                       args[0].equalsIgnoreCase("kithistory") || args[0].equalsIgnoreCase("rollbackkit")) {
                 if (sender instanceof Player) {
                     Player player = (Player) sender;
                     List<Kit> kits = plugin.getKitManager().getPlayerKits(player.getUniqueId());
@@ -429,6 +653,10 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                 return Arrays.asList("WEAPONS", "ARMOR", "BLOCKS", "FOOD", "POTIONS", "TOOLS", "UTILITY", "MISC").stream()
                         .filter(name -> name.toLowerCase().startsWith(args[1].toLowerCase()))
                         .collect(Collectors.toList());
+            } else if (args[0].equalsIgnoreCase("migratekits")) {
+                return KIT_STORAGES.stream()
+                        .filter(name -> name.startsWith(args[1].toLowerCase()))
+                        .collect(Collectors.toList());
             } else if (args[0].equalsIgnoreCase("arena")) {
                 return Arrays.asList("create", "editor", "list", "delete").stream()
                         .filter(name -> name.toLowerCase().startsWith(args[1].toLowerCase()))
@@ -444,6 +672,10 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                             .filter(name -> name.toLowerCase().startsWith(args[2].toLowerCase()))
                             .collect(Collectors.toList());
                 }
+            } else if (args[0].equalsIgnoreCase("migratekits")) {
+                return KIT_STORAGES.stream()
+                        .filter(name -> name.startsWith(args[2].toLowerCase()))
+                        .collect(Collectors.toList());
             } else if (args[0].equalsIgnoreCase("arena") && 
                       (args[1].equalsIgnoreCase("editor") || args[1].equalsIgnoreCase("delete"))) {
                 return plugin.getArenaManager().getAllArenas().stream()
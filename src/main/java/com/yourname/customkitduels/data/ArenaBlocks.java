@@ -0,0 +1,125 @@
+package com.yourname.customkitduels.data;
+
+import org.bukkit.World;
+
+/**
+ * The blocks of an arena's region, as a palette of block data strings and one
+ * palette index per block. Blocks are ordered x first, then z, then y.
+ * Block entity data, like chest contents and sign text, doesn't fit in the
+ * palette and is kept by {@link BlockEntities} if the source has any.
+ */
+public class ArenaBlocks {
+    
+    /**
+     * The blocks with block entity data, placed again with their data after the
+     * palette blocks are placed.
+     */
+    public interface BlockEntities {
+        
+        int size();
+        
+        /**
+         * Places the blocks on the main thread, with the first block of the
+         * region at the given position.
+         */
+        void place(World world, int baseX, int baseY, int baseZ);
+    }
+    
+    private final int width;
+    private final int height;
+    private final int length;
+    private final int offsetX;
+    private final int offsetY;
+    private final int offsetZ;
+    private final String[] palette;
+    private final int[] blocks;
+    private final BlockEntities blockEntities;
+    
+    /**
+     * @param offsetX the position of the first block relative to the point the
+     *                blocks are placed at, likewise offsetY and offsetZ
+     */
+    public ArenaBlocks(int width, int height, int length, int offsetX, int offsetY, int offsetZ, String[] palette, int[] blocks) {
+        this(width, height, length, offsetX, offsetY, offsetZ, palette, blocks, null);
+    }
+    
+    /**
+     * @param blockEntities the blocks with block entity data, or null if there are none
+     */
+    public ArenaBlocks(int width, int height, int length, int offsetX, int offsetY, int offsetZ, String[] palette, int[] blocks, BlockEntities blockEntities) {
+        if (blocks.length != width * height * length) {
+            throw new IllegalArgumentException("Expected " + (width * height * length) + " blocks, got " + blocks.length);
+        }
+        this.width = width;
+        this.height = height;
+        this.length = length;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.offsetZ = offsetZ;
+        this.palette = palette;
+        this.blocks = blocks;
+        this.blockEntities = blockEntities;
+    }
+    
+    public int getWidth() {
+        return width;
+    }
+    
+    public int getHeight() {
+        return height;
+    }
+    
+    public int getLength() {
+        return length;
+    }
+    
+    public int getOffsetX() {
+        return offsetX;
+    }
+    
+    public int getOffsetY() {
+        return offsetY;
+    }
+    
+    public int getOffsetZ() {
+        return offsetZ;
+    }
+    
+    public String[] getPalette() {
+        return palette;
+    }
+    
+    public int getBlockCount() {
+        return blocks.length;
+    }
+    
+    /**
+     * Roughly how much memory these blocks take up, in bytes.
+     */
+    public long getEstimatedSize() {
+        long size = 64L + 4L * blocks.length;
+        for (String block : palette) {
+            // Object headers plus the characters, block names are plain ASCII
+            size += 56L + block.length();
+        }
+        if (blockEntities != null) {
+            // A guess, containers with items take a few kilobytes
+            size += 1024L * blockEntities.size();
+        }
+        return size;
+    }
+    
+    /**
+     * The palette index of the block at the given position in block order.
+     */
+    public int getBlock(int index) {
+        return blocks[index];
+    }
+    
+    /**
+     * The blocks with block entity data, or null if there are none.
+     */
+    public BlockEntities getBlockEntities() {
+        return blockEntities;
+    }
+}
@@ -7,14 +7,12 @@ public class DuelRequest {
     private final Player challenger;
     private final Player target;
     private final Kit kit;
-    private final Arena arena;
     private final long timestamp;
     
-    public DuelRequest(Player challenger, Player target, Kit kit, Arena arena) {
+    public DuelRequest(Player challenger, Player target, Kit kit) {
         this.challenger = challenger;
         this.target = target;
         this.kit = kit;
-        this.arena = arena;
         this.timestamp = System.currentTimeMillis();
     }
     
@@ -30,10 +28,6 @@ public class DuelRequest {
         return kit;
     }
     
-    public Arena getArena() {
-        return arena;
-    }
-    
     public long getTimestamp() {
         return timestamp;
     }
@@ -0,0 +1,92 @@
+package com.yourname.customkitduels.data;
+
+import com.yourname.customkitduels.utils.DisplayNames;
+import org.bukkit.ChatColor;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable snapshot of one item category, shared by every selector menu.
+ * Menu icons are only built the first time their page is shown.
+ *
+ * The stacks handed out are shared and must not be modified. Editing a category
+ * replaces its snapshot rather than changing this one.
+ */
+public final class ItemCatalog {
+
+    /**
+     * Shared catalog for categories that don't exist.
+     */
+    public static final ItemCatalog EMPTY = new ItemCatalog("", Collections.emptyList());
+
+    private static final List<String> BULK_LORE = Collections.singletonList(ChatColor.GREEN + "Click to select for bulk mode");
+
+    private final String name;
+    private final List<ItemStack> items;
+    private final ItemStack[] selectorIcons;
+    private final ItemStack[] bulkIcons;
+
+    public ItemCatalog(String name, List<ItemStack> items) {
+        this.name = name;
+        List<ItemStack> copy = new ArrayList<>(items.size());
+        for (ItemStack item : items) {
+            copy.add(item.clone());
+        }
+        this.items = Collections.unmodifiableList(copy);
+        this.selectorIcons = new ItemStack[copy.size()];
+        this.bulkIcons = new ItemStack[copy.size()];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public List<ItemStack> getItems() {
+        return items;
+    }
+
+    /**
+     * Icon for the item selector: the item with its formatted name.
+     */
+    public ItemStack getSelectorIcon(int index) {
+        ItemStack icon = selectorIcons[index];
+        if (icon == null) {
+            icon = createIcon(items.get(index), null);
+            selectorIcons[index] = icon;
+        }
+        return icon;
+    }
+
+    /**
+     * Icon for the bulk item selector: the item with its formatted name and a bulk hint.
+     */
+    public ItemStack getBulkIcon(int index) {
+        ItemStack icon = bulkIcons[index];
+        if (icon == null) {
+            icon = createIcon(items.get(index), BULK_LORE);
+            bulkIcons[index] = icon;
+        }
+        return icon;
+    }
+
+    private ItemStack createIcon(ItemStack source, List<String> lore) {
+        ItemStack icon = source.clone();
+        ItemMeta meta = icon.getItemMeta();
+        if (meta.getDisplayName() == null || meta.getDisplayName().isEmpty()) {
+            meta.setDisplayName(ChatColor.WHITE + DisplayNames.material(icon.getType()));
+        }
+        if (lore != null) {
+            meta.setLore(lore);
+        }
+        icon.setItemMeta(meta);
+        return icon;
+    }
+}
@@ -1,19 +1,22 @@
 package com.yourname.customkitduels.data;
 
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 
 public class Kit {
     
     private final String name;
     private final String displayName;
-    private final ItemStack[] contents;
-    private final ItemStack[] armor;
+    private final KitContent content;
     
     public Kit(String name, String displayName, ItemStack[] contents, ItemStack[] armor) {
+        this(name, displayName, new KitContent(contents, armor));
+    }
+    
+    public Kit(String name, String displayName, KitContent content) {
         this.name = name;
         this.displayName = displayName;
-        this.contents = contents != null ? contents : new ItemStack[36];
-        this.armor = armor != null ? armor : new ItemStack[4];
+        this.content = content;
     }
     
     public String getName() {
@@ -24,11 +27,25 @@ public class Kit {
         return displayName;
     }
     
+    /**
+     * The kit's items, which may be shared with other kits that have the same items.
+     */
+    public KitContent getContent() {
+        return content;
+    }
+    
     public ItemStack[] getContents() {
-        return contents;
+        return content.getContents();
     }
     
     public ItemStack[] getArmor() {
-        return armor;
+        return content.getArmor();
+    }
+    
+    /**
+     * Replaces the whole inventory, armor and offhand with this kit.
+     */
+    public void applyTo(PlayerInventory inventory) {
+        content.applyTo(inventory);
     }
-}
\ No newline at end of file
+}
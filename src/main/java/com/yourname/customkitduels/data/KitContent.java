@@ -0,0 +1,82 @@
+package com.yourname.customkitduels.data;
+
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+/**
+ * The items of a kit. Kits with the same items can share one instance, so
+ * the arrays must not be changed once the content is created.
+ *
+ * Content is validated when it has been through the kit validator, which also
+ * sizes the arrays to 37 contents slots and 4 armor slots.
+ */
+public class KitContent {
+    
+    // Player inventory layout: 36 main slots, boots to helmet, then offhand
+    private static final int MAIN_SLOTS = 36;
+    private static final int ARMOR_SLOTS = 4;
+    private static final int OFFHAND_SLOT = MAIN_SLOTS + ARMOR_SLOTS;
+    private static final int LOADOUT_SIZE = OFFHAND_SLOT + 1;
+    
+    private final ItemStack[] contents;
+    private final ItemStack[] armor;
+    private final ItemStack[] loadout;
+    private final boolean validated;
+    
+    public KitContent(ItemStack[] contents, ItemStack[] armor) {
+        this(contents, armor, false);
+    }
+    
+    public KitContent(ItemStack[] contents, ItemStack[] armor, boolean validated) {
+        this.contents = contents != null ? contents : new ItemStack[36];
+        this.armor = armor != null ? armor : new ItemStack[4];
+        this.loadout = compileLoadout(this.contents, this.armor);
+        this.validated = validated;
+    }
+    
+    /**
+     * Builds the full player inventory once, from copies of the items, so the
+     * inventory never holds the same item objects as the kit.
+     */
+    private static ItemStack[] compileLoadout(ItemStack[] contents, ItemStack[] armor) {
+        ItemStack[] loadout = new ItemStack[LOADOUT_SIZE];
+        
+        for (int i = 0; i < MAIN_SLOTS && i < contents.length; i++) {
+            loadout[i] = copy(contents[i]);
+        }
+        for (int i = 0; i < ARMOR_SLOTS && i < armor.length; i++) {
+            loadout[MAIN_SLOTS + i] = copy(armor[i]);
+        }
+        
+        // Offhand is kept in slot 36 of the contents array
+        if (contents.length > MAIN_SLOTS) {
+            loadout[OFFHAND_SLOT] = copy(contents[MAIN_SLOTS]);
+        }
+        
+        return loadout;
+    }
+    
+    private static ItemStack copy(ItemStack item) {
+        return item != null && !item.getType().isAir() ? item.clone() : null;
+    }
+    
+    public ItemStack[] getContents() {
+        return contents;
+    }
+    
+    public ItemStack[] getArmor() {
+        return armor;
+    }
+    
+    public boolean isValidated() {
+        return validated;
+    }
+    
+    /**
+     * Replaces the whole inventory, armor and offhand with these items. The
+     * inventory copies the items it is given, so the loadout is reused as is.
+     */
+    public void applyTo(PlayerInventory inventory) {
+        inventory.setContents(loadout);
+    }
+}
@@ -0,0 +1,70 @@
+package com.yourname.customkitduels.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One player's kits, keyed by lower-case kit name so lookups ignore case.
+ * Kits keep the order they were saved in.
+ */
+public class PlayerKits {
+
+    private final Map<String, Kit> kits = new LinkedHashMap<>();
+    private List<Kit> view;
+
+    public PlayerKits(List<Kit> kits) {
+        for (Kit kit : kits) {
+            this.kits.put(key(kit.getName()), kit);
+        }
+    }
+
+    public Kit get(String name) {
+        return kits.get(key(name));
+    }
+
+    public boolean contains(String name) {
+        return kits.containsKey(key(name));
+    }
+
+    /**
+     * Adds a kit, replacing any kit with the same name. The kit moves to the
+     * end, as if it had just been created.
+     */
+    public void put(Kit kit) {
+        String key = key(kit.getName());
+        kits.remove(key);
+        kits.put(key, kit);
+        view = null;
+    }
+
+    public boolean remove(String name) {
+        if (kits.remove(key(name)) == null) return false;
+
+        view = null;
+        return true;
+    }
+
+    public int size() {
+        return kits.size();
+    }
+
+    /**
+     * The kits in order, as a read-only list that is reused until the kits change.
+     */
+    public List<Kit> asList() {
+        List<Kit> list = view;
+        if (list == null) {
+            list = Collections.unmodifiableList(new ArrayList<>(kits.values()));
+            view = list;
+        }
+        return list;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -7,15 +7,13 @@ public class RoundsDuelRequest {
     private final Player challenger;
     private final Player target;
     private final Kit kit;
-    private final Arena arena;
     private final int targetRounds;
     private final long timestamp;
     
-    public RoundsDuelRequest(Player challenger, Player target, Kit kit, Arena arena, int targetRounds) {
+    public RoundsDuelRequest(Player challenger, Player target, Kit kit, int targetRounds) {
         this.challenger = challenger;
         this.target = target;
         this.kit = kit;
-        this.arena = arena;
         this.targetRounds = targetRounds;
         this.timestamp = System.currentTimeMillis();
     }
@@ -32,10 +30,6 @@ public class RoundsDuelRequest {
         return kit;
     }
     
-    public Arena getArena() {
-        return arena;
-    }
-    
     public int getTargetRounds() {
         return targetRounds;
     }
@@ -2,13 +2,11 @@ package com.yourname.customkitduels.gui;
 
 import com.yourname.customkitduels.CustomKitDuels;
 import com.yourname.customkitduels.data.Arena;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
@@ -18,8 +16,9 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.*;
+import java.util.concurrent.CompletionException;
 
-public class ArenaEditorGUI implements Listener {
+public class ArenaEditorGUI implements GUI {
     
     private final CustomKitDuels plugin;
     private final Player player;
@@ -34,12 +33,11 @@ public class ArenaEditorGUI implements Listener {
         this.plugin = plugin;
         this.player = player;
         this.arena = arena;
-        this.gui = Bukkit.createInventory(null, 45, ChatColor.DARK_GREEN + "Arena Editor: " + arena.getName());
+        this.gui = Bukkit.createInventory(this, 45, ChatColor.DARK_GREEN + "Arena Editor: " + arena.getName());
         
-        plugin.getLogger().info("[DEBUG] Creating ArenaEditorGUI for player " + player.getName() + " arena " + arena.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Creating ArenaEditorGUI for player " + player.getName() + " arena " + arena.getName());
         
         setupGUI();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     private void setupGUI() {
@@ -153,7 +151,7 @@ public class ArenaEditorGUI implements Listener {
                 ChatColor.RED + "✗ Disabled",
                 ChatColor.GRAY + "Arena will not regenerate",
                 ChatColor.AQUA + "Click to enable",
-                ChatColor.YELLOW + "Note: Requires FAWE plugin"
+                ChatColor.YELLOW + "Note: Generate a schematic first"
             ));
         }
         regenItem.setItemMeta(regenMeta);
@@ -167,7 +165,7 @@ public class ArenaEditorGUI implements Listener {
             schematicMeta.setLore(Arrays.asList(
                 ChatColor.GRAY + "Create a schematic of the arena",
                 ChatColor.GRAY + "for regeneration purposes",
-                ChatColor.YELLOW + "File: " + arena.getSchematicName() + ".schem",
+                ChatColor.YELLOW + "File: " + arena.getSchematicName() + (plugin.getServer().getPluginManager().isPluginEnabled("FastAsyncWorldEdit") ? ".schem" : ".snapshot"),
                 ChatColor.GREEN + "Click to generate"
             ));
             schematicItem.setItemMeta(schematicMeta);
@@ -198,12 +196,17 @@ public class ArenaEditorGUI implements Listener {
         return String.format("%.0f, %.0f, %.0f", loc.getX(), loc.getY(), loc.getZ());
     }
     
+    @Override
+    public Inventory getInventory() {
+        return gui;
+    }
+    
     public void open() {
-        plugin.getLogger().info("[DEBUG] Opening ArenaEditorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening ArenaEditorGUI for " + player.getName());
         
         ArenaEditorGUI existing = activeGuis.get(player.getUniqueId());
         if (existing != null && existing != this) {
-            plugin.getLogger().info("[DEBUG] Cleaning up existing ArenaEditorGUI for " + player.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Cleaning up existing ArenaEditorGUI for " + player.getName());
             existing.forceCleanup();
         }
         
@@ -212,19 +215,19 @@ public class ArenaEditorGUI implements Listener {
         player.openInventory(gui);
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onInventoryClick(InventoryClickEvent event) {
+    @Override
+    public void handleClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
         Player clicker = (Player) event.getWhoClicked();
         
-        if (!clicker.equals(player) || !event.getInventory().equals(gui) || !isActive) {
+        if (!clicker.equals(player) || !isActive) {
             return;
         }
         
         event.setCancelled(true);
         int slot = event.getSlot();
         
-        plugin.getLogger().info("[DEBUG] ArenaEditorGUI click event - Player: " + player.getName() + ", Slot: " + slot);
+        plugin.getDebugLogger().trace(Subsystem.GUI, () -> "ArenaEditorGUI click event - Player: " + player.getName() + ", Slot: " + slot);
         
         switch (slot) {
             case 10: // Position 1
@@ -257,6 +260,7 @@ public class ArenaEditorGUI implements Listener {
     private void startPositionSetting(String type) {
         waitingForPosition.add(player.getUniqueId());
         positionType.put(player.getUniqueId(), type);
+        plugin.getGuiManager().awaitInput(player, this);
         
         player.closeInventory();
         
@@ -269,8 +273,8 @@ public class ArenaEditorGUI implements Listener {
         player.sendMessage(ChatColor.GRAY + "Type 'cancel' in chat to cancel");
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onPlayerInteract(PlayerInteractEvent event) {
+    @Override
+    public void handleInteract(PlayerInteractEvent event) {
         if (!waitingForPosition.contains(event.getPlayer().getUniqueId())) {
             return;
         }
@@ -285,6 +289,7 @@ public class ArenaEditorGUI implements Listener {
             
             String type = positionType.remove(player.getUniqueId());
             waitingForPosition.remove(player.getUniqueId());
+            plugin.getGuiManager().stopAwaitingInput(player);
             
             org.bukkit.Location clickedLocation = event.getClickedBlock().getLocation();
             
@@ -334,20 +339,20 @@ public class ArenaEditorGUI implements Listener {
             return;
         }
         
-        // Check if FAWE is available
-        if (!plugin.getServer().getPluginManager().isPluginEnabled("FastAsyncWorldEdit")) {
-            player.sendMessage(ChatColor.RED + "FastAsyncWorldEdit (FAWE) is required for schematic generation!");
-            return;
-        }
+        player.sendMessage(ChatColor.YELLOW + "Saving the arena's blocks...");
         
-        try {
-            plugin.getArenaManager().generateSchematic(arena, player);
+        // Completes on the main thread
+        plugin.getArenaManager().generateSchematic(arena, player).whenComplete((result, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                player.sendMessage(ChatColor.RED + "Failed to generate schematic: " + cause.getMessage());
+                plugin.getLogger().warning("Failed to generate schematic for arena " + arena.getName() + ": " + cause.getMessage());
+                return;
+            }
+            
             player.sendMessage(ChatColor.GREEN + "Schematic generated successfully!");
             setupGUI(); // Refresh GUI
-        } catch (Exception e) {
-            player.sendMessage(ChatColor.RED + "Failed to generate schematic: " + e.getMessage());
-            plugin.getLogger().warning("Failed to generate schematic for arena " + arena.getName() + ": " + e.getMessage());
-        }
+        });
     }
     
     private void saveArena() {
@@ -365,24 +370,22 @@ public class ArenaEditorGUI implements Listener {
     }
     
     private void forceCleanup() {
-        plugin.getLogger().info("[DEBUG] Force cleanup ArenaEditorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Force cleanup ArenaEditorGUI for " + player.getName());
         isActive = false;
         activeGuis.remove(player.getUniqueId());
         waitingForPosition.remove(player.getUniqueId());
         positionType.remove(player.getUniqueId());
-        InventoryClickEvent.getHandlerList().unregister(this);
-        InventoryCloseEvent.getHandlerList().unregister(this);
-        PlayerInteractEvent.getHandlerList().unregister(this);
+        plugin.getGuiManager().unregisterGUI(this);
         player.closeInventory();
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onInventoryClose(InventoryCloseEvent event) {
+    @Override
+    public void handleClose(InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player)) return;
         Player closer = (Player) event.getPlayer();
         
-        if (closer.equals(player) && event.getInventory().equals(gui)) {
-            plugin.getLogger().info("[DEBUG] ArenaEditorGUI inventory closed by " + player.getName() + ", Active: " + isActive);
+        if (closer.equals(player)) {
+            plugin.getDebugLogger().trace(Subsystem.GUI, () -> "ArenaEditorGUI inventory closed by " + player.getName() + ", Active: " + isActive);
             
             // Don't cleanup if waiting for position setting
             if (waitingForPosition.contains(player.getUniqueId())) {
@@ -391,7 +394,7 @@ public class ArenaEditorGUI implements Listener {
             
             plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                 if (isActive && activeGuis.containsKey(player.getUniqueId())) {
-                    plugin.getLogger().info("[DEBUG] Final cleanup ArenaEditorGUI for " + player.getName());
+                    plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Final cleanup ArenaEditorGUI for " + player.getName());
                     forceCleanup();
                 }
             }, 3L);
@@ -1,13 +1,12 @@
 package com.yourname.customkitduels.gui;
 
 import com.yourname.customkitduels.CustomKitDuels;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
+import com.yourname.customkitduels.utils.DisplayNames;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
@@ -16,11 +15,11 @@ import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.*;
 
-public class ArmorSelectorGUI implements Listener {
+public class ArmorSelectorGUI implements GUI {
     
     private final CustomKitDuels plugin;
     private final Player player;
-    private final KitEditorGUI parentGUI;
+    private KitEditorGUI parentGUI;
     private final int targetSlot;
     private final Inventory gui;
     private final List<ItemStack> armorItems;
@@ -35,12 +34,11 @@ public class ArmorSelectorGUI implements Listener {
         this.armorItems = getArmorForSlot(targetSlot);
         
         String armorType = getArmorTypeName(targetSlot);
-        this.gui = Bukkit.createInventory(null, 54, ChatColor.DARK_GREEN + armorType + " Selection");
+        this.gui = Bukkit.createInventory(this, 54, ChatColor.DARK_GREEN + armorType + " Selection");
         
-        plugin.getLogger().info("[DEBUG] Creating ArmorSelectorGUI for player " + player.getName() + " slot " + targetSlot + " type " + armorType);
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Creating ArmorSelectorGUI for player " + player.getName() + " slot " + targetSlot + " type " + armorType);
         
         setupGUI();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     private String getArmorTypeName(int slot) {
@@ -104,49 +102,37 @@ public class ArmorSelectorGUI implements Listener {
             ItemStack item = armorItems.get(i).clone();
             ItemMeta meta = item.getItemMeta();
             if (meta.getDisplayName() == null || meta.getDisplayName().isEmpty()) {
-                meta.setDisplayName(ChatColor.WHITE + formatMaterialName(item.getType().name()));
+                meta.setDisplayName(ChatColor.WHITE + DisplayNames.material(item.getType()));
             }
             item.setItemMeta(meta);
             gui.setItem(i, item);
         }
         
         // Clear slot option
-        ItemStack clear = new ItemStack(Material.BARRIER);
-        ItemMeta clearMeta = clear.getItemMeta();
-        clearMeta.setDisplayName(ChatColor.RED + "Clear Slot");
-        clearMeta.setLore(Arrays.asList(ChatColor.GRAY + "Remove armor from this slot"));
-        clear.setItemMeta(clearMeta);
-        gui.setItem(45, clear);
+        gui.setItem(45, GUIIcons.CLEAR_ARMOR_SLOT);
         
         // Back button
-        ItemStack back = new ItemStack(Material.RED_STAINED_GLASS_PANE);
-        ItemMeta backMeta = back.getItemMeta();
-        backMeta.setDisplayName(ChatColor.RED + "Back");
-        backMeta.setLore(Arrays.asList(ChatColor.GRAY + "Return to kit editor"));
-        back.setItemMeta(backMeta);
-        gui.setItem(53, back);
+        gui.setItem(53, GUIIcons.BACK_TO_EDITOR);
     }
     
-    private String formatMaterialName(String materialName) {
-        String[] words = materialName.toLowerCase().split("_");
-        StringBuilder formatted = new StringBuilder();
-        
-        for (String word : words) {
-            if (formatted.length() > 0) {
-                formatted.append(" ");
-            }
-            formatted.append(word.substring(0, 1).toUpperCase()).append(word.substring(1));
-        }
-        
-        return formatted.toString();
+    /**
+     * Points a pooled instance at a new editor before it is reopened.
+     */
+    void reset(KitEditorGUI parentGUI) {
+        this.parentGUI = parentGUI;
+    }
+    
+    @Override
+    public Inventory getInventory() {
+        return gui;
     }
     
     public void open() {
-        plugin.getLogger().info("[DEBUG] Opening ArmorSelectorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening ArmorSelectorGUI for " + player.getName());
         
         ArmorSelectorGUI existing = activeGuis.get(player.getUniqueId());
         if (existing != null && existing != this) {
-            plugin.getLogger().info("[DEBUG] Cleaning up existing ArmorSelectorGUI for " + player.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Cleaning up existing ArmorSelectorGUI for " + player.getName());
             existing.forceCleanup();
         }
         
@@ -155,31 +141,31 @@ public class ArmorSelectorGUI implements Listener {
         player.openInventory(gui);
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onInventoryClick(InventoryClickEvent event) {
+    @Override
+    public void handleClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
         Player clicker = (Player) event.getWhoClicked();
         
-        if (!clicker.equals(player) || !event.getInventory().equals(gui) || !isActive) {
+        if (!clicker.equals(player) || !isActive) {
             return;
         }
         
         event.setCancelled(true);
         int slot = event.getSlot();
         
-        plugin.getLogger().info("[DEBUG] ArmorSelectorGUI click event - Player: " + player.getName() + ", Slot: " + slot);
+        plugin.getDebugLogger().trace(Subsystem.GUI, () -> "ArmorSelectorGUI click event - Player: " + player.getName() + ", Slot: " + slot);
         
         if (slot == 45) { // Clear slot
-            plugin.getLogger().info("[DEBUG] Clear armor slot clicked for slot " + targetSlot);
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Clear armor slot clicked for slot " + targetSlot);
             parentGUI.clearSlot(targetSlot);
             returnToParent();
         } else if (slot == 53) { // Back button
-            plugin.getLogger().info("[DEBUG] Back button clicked");
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Back button clicked");
             returnToParent();
         } else if (slot < 45) { // Armor selection
             ItemStack clickedItem = event.getCurrentItem();
             if (clickedItem != null && clickedItem.getType() != Material.AIR) {
-                plugin.getLogger().info("[DEBUG] Armor selected: " + clickedItem.getType() + " for slot " + targetSlot);
+                plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Armor selected: " + clickedItem.getType() + " for slot " + targetSlot);
                 parentGUI.setSlotItem(targetSlot, clickedItem.clone());
                 player.sendMessage(ChatColor.GREEN + "Armor added to " + getArmorTypeName(targetSlot).toLowerCase() + " slot!");
                 returnToParent();
@@ -188,7 +174,7 @@ public class ArmorSelectorGUI implements Listener {
     }
     
     private void returnToParent() {
-        plugin.getLogger().info("[DEBUG] Returning to parent GUI for player " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Returning to parent GUI for player " + player.getName());
         forceCleanup();
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
             parentGUI.refreshAndReopen();
@@ -196,25 +182,24 @@ public class ArmorSelectorGUI implements Listener {
     }
     
     private void forceCleanup() {
-        plugin.getLogger().info("[DEBUG] Force cleanup ArmorSelectorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Force cleanup ArmorSelectorGUI for " + player.getName());
         isActive = false;
         activeGuis.remove(player.getUniqueId());
-        InventoryClickEvent.getHandlerList().unregister(this);
-        InventoryCloseEvent.getHandlerList().unregister(this);
+        plugin.getGuiManager().unregisterGUI(this);
         player.closeInventory();
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onInventoryClose(InventoryCloseEvent event) {
+    @Override
+    public void handleClose(InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player)) return;
         Player closer = (Player) event.getPlayer();
         
-        if (closer.equals(player) && event.getInventory().equals(gui)) {
-            plugin.getLogger().info("[DEBUG] ArmorSelectorGUI inventory closed by " + player.getName() + ", Active: " + isActive);
+        if (closer.equals(player)) {
+            plugin.getDebugLogger().trace(Subsystem.GUI, () -> "ArmorSelectorGUI inventory closed by " + player.getName() + ", Active: " + isActive);
             
             plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                 if (isActive && activeGuis.containsKey(player.getUniqueId())) {
-                    plugin.getLogger().info("[DEBUG] Final cleanup ArmorSelectorGUI for " + player.getName());
+                    plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Final cleanup ArmorSelectorGUI for " + player.getName());
                     forceCleanup();
                     parentGUI.refreshAndReopen();
                 }
@@ -1,30 +1,28 @@
 package com.yourname.customkitduels.gui;
 
 import com.yourname.customkitduels.CustomKitDuels;
+import com.yourname.customkitduels.data.ItemCatalog;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.*;
 
-public class BulkItemSelectorGUI implements Listener {
+public class BulkItemSelectorGUI implements GUI {
     
     private final CustomKitDuels plugin;
     private final Player player;
-    private final KitEditorGUI parentGUI;
-    private final int targetSlot;
+    private KitEditorGUI parentGUI;
+    private int targetSlot;
     private final String category;
     private final Inventory gui;
-    private final List<ItemStack> categoryItems;
+    private ItemCatalog catalog;
     private int currentPage = 0;
     private static final Map<UUID, BulkItemSelectorGUI> activeGuis = new HashMap<>();
     private boolean isActive = true;
@@ -35,13 +33,12 @@ public class BulkItemSelectorGUI implements Listener {
         this.parentGUI = parentGUI;
         this.targetSlot = targetSlot;
         this.category = category;
-        this.categoryItems = plugin.getCategoryManager().getCategoryItems(category);
-        this.gui = Bukkit.createInventory(null, 54, ChatColor.GOLD + "Select Bulk Item - " + category);
+        this.catalog = plugin.getCategoryManager().getCatalog(category);
+        this.gui = Bukkit.createInventory(this, 54, ChatColor.GOLD + "Select Bulk Item - " + category);
         
-        plugin.getLogger().info("[DEBUG] Creating BulkItemSelectorGUI for player " + player.getName() + " category " + category);
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Creating BulkItemSelectorGUI for player " + player.getName() + " category " + category);
         
         setupGUI();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     private void setupGUI() {
@@ -49,65 +46,53 @@ public class BulkItemSelectorGUI implements Listener {
         
         int itemsPerPage = 45;
         int startIndex = currentPage * itemsPerPage;
-        int endIndex = Math.min(startIndex + itemsPerPage, categoryItems.size());
+        int endIndex = Math.min(startIndex + itemsPerPage, catalog.size());
         
-        // Add items for current page
+        // Only the visible page is materialized
         for (int i = startIndex; i < endIndex; i++) {
-            ItemStack item = categoryItems.get(i).clone();
-            ItemMeta meta = item.getItemMeta();
-            if (meta.getDisplayName() == null || meta.getDisplayName().isEmpty()) {
-                meta.setDisplayName(ChatColor.WHITE + formatMaterialName(item.getType().name()));
-            }
-            meta.setLore(Arrays.asList(ChatColor.GREEN + "Click to select for bulk mode"));
-            item.setItemMeta(meta);
-            gui.setItem(i - startIndex, item);
+            gui.setItem(i - startIndex, catalog.getBulkIcon(i));
         }
         
         // Navigation buttons
         if (currentPage > 0) {
-            ItemStack prevPage = new ItemStack(Material.ARROW);
-            ItemMeta prevMeta = prevPage.getItemMeta();
-            prevMeta.setDisplayName(ChatColor.YELLOW + "Previous Page");
-            prevPage.setItemMeta(prevMeta);
-            gui.setItem(45, prevPage);
+            gui.setItem(45, GUIIcons.PREVIOUS_PAGE);
         }
         
-        if (endIndex < categoryItems.size()) {
-            ItemStack nextPage = new ItemStack(Material.ARROW);
-            ItemMeta nextMeta = nextPage.getItemMeta();
-            nextMeta.setDisplayName(ChatColor.YELLOW + "Next Page");
-            nextPage.setItemMeta(nextMeta);
-            gui.setItem(53, nextPage);
+        if (endIndex < catalog.size()) {
+            gui.setItem(53, GUIIcons.NEXT_PAGE);
         }
         
         // Back button
-        ItemStack back = new ItemStack(Material.RED_STAINED_GLASS_PANE);
-        ItemMeta backMeta = back.getItemMeta();
-        backMeta.setDisplayName(ChatColor.RED + "Back");
-        back.setItemMeta(backMeta);
-        gui.setItem(49, back);
+        gui.setItem(49, GUIIcons.BACK);
     }
     
-    private String formatMaterialName(String materialName) {
-        String[] words = materialName.toLowerCase().split("_");
-        StringBuilder formatted = new StringBuilder();
+    /**
+     * Points a pooled instance at a new editor slot and picks up any category
+     * edits made since it was last shown.
+     */
+    void reset(KitEditorGUI parentGUI, int targetSlot) {
+        this.parentGUI = parentGUI;
+        this.targetSlot = targetSlot;
         
-        for (String word : words) {
-            if (formatted.length() > 0) {
-                formatted.append(" ");
-            }
-            formatted.append(word.substring(0, 1).toUpperCase()).append(word.substring(1));
+        ItemCatalog latest = plugin.getCategoryManager().getCatalog(category);
+        if (currentPage != 0 || latest != catalog) {
+            catalog = latest;
+            currentPage = 0;
+            setupGUI();
         }
-        
-        return formatted.toString();
+    }
+    
+    @Override
+    public Inventory getInventory() {
+        return gui;
     }
     
     public void open() {
-        plugin.getLogger().info("[DEBUG] Opening BulkItemSelectorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening BulkItemSelectorGUI for " + player.getName());
         
         BulkItemSelectorGUI existing = activeGuis.get(player.getUniqueId());
         if (existing != null && existing != this) {
-            plugin.getLogger().info("[DEBUG] Cleaning up existing BulkItemSelectorGUI for " + player.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Cleaning up existing BulkItemSelectorGUI for " + player.getName());
             existing.forceCleanup();
         }
         
@@ -116,35 +101,35 @@ public class BulkItemSelectorGUI implements Listener {
         player.openInventory(gui);
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onInventoryClick(InventoryClickEvent event) {
+    @Override
+    public void handleClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
         Player clicker = (Player) event.getWhoClicked();
         
-        if (!clicker.equals(player) || !event.getInventory().equals(gui) || !isActive) {
+        if (!clicker.equals(player) || !isActive) {
             return;
         }
         
         event.setCancelled(true);
         int slot = event.getSlot();
         
-        plugin.getLogger().info("[DEBUG] BulkItemSelectorGUI click event - Player: " + player.getName() + ", Slot: " + slot);
+        plugin.getDebugLogger().trace(Subsystem.GUI, () -> "BulkItemSelectorGUI click event - Player: " + player.getName() + ", Slot: " + slot);
         
         if (slot == 45 && currentPage > 0) { // Previous page
-            plugin.getLogger().info("[DEBUG] Previous page clicked");
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Previous page clicked");
             currentPage--;
             setupGUI();
-        } else if (slot == 53 && (currentPage + 1) * 45 < categoryItems.size()) { // Next page
-            plugin.getLogger().info("[DEBUG] Next page clicked");
+        } else if (slot == 53 && (currentPage + 1) * 45 < catalog.size()) { // Next page
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Next page clicked");
             currentPage++;
             setupGUI();
         } else if (slot == 49) { // Back button
-            plugin.getLogger().info("[DEBUG] Back to category clicked");
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Back to category clicked");
             returnToCategory();
         } else if (slot < 45) { // Item selection
             ItemStack clickedItem = event.getCurrentItem();
             if (clickedItem != null && clickedItem.getType() != Material.AIR) {
-                plugin.getLogger().info("[DEBUG] Bulk item selected: " + clickedItem.getType());
+                plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Bulk item selected: " + clickedItem.getType());
                 parentGUI.setBulkItem(clickedItem.clone());
                 player.sendMessage(ChatColor.GREEN + "Bulk mode activated with " + clickedItem.getType().name() + "!");
                 returnToParent();
@@ -153,16 +138,16 @@ public class BulkItemSelectorGUI implements Listener {
     }
     
     private void returnToCategory() {
-        plugin.getLogger().info("[DEBUG] Returning to bulk category selector for player " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Returning to bulk category selector for player " + player.getName());
         isActive = false;
         forceCleanup();
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            new BulkCategorySelectorGUI(plugin, player, parentGUI, targetSlot).open();
+            plugin.getGuiManager().getSession(player).bulkCategorySelector(parentGUI, targetSlot).open();
         }, 1L);
     }
     
     private void returnToParent() {
-        plugin.getLogger().info("[DEBUG] Returning to parent GUI for player " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Returning to parent GUI for player " + player.getName());
         isActive = false;
         forceCleanup();
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
@@ -171,26 +156,25 @@ public class BulkItemSelectorGUI implements Listener {
     }
     
     private void forceCleanup() {
-        plugin.getLogger().info("[DEBUG] Force cleanup BulkItemSelectorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Force cleanup BulkItemSelectorGUI for " + player.getName());
         isActive = false;
         activeGuis.remove(player.getUniqueId());
-        InventoryClickEvent.getHandlerList().unregister(this);
-        InventoryCloseEvent.getHandlerList().unregister(this);
+        plugin.getGuiManager().unregisterGUI(this);
         player.closeInventory();
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onInventoryClose(InventoryCloseEvent event) {
+    @Override
+    public void handleClose(InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player)) return;
         Player closer = (Player) event.getPlayer();
         
-        if (closer.equals(player) && event.getInventory().equals(gui)) {
-            plugin.getLogger().info("[DEBUG] BulkItemSelectorGUI inventory closed by " + player.getName() + ", Active: " + isActive);
+        if (closer.equals(player)) {
+            plugin.getDebugLogger().trace(Subsystem.GUI, () -> "BulkItemSelectorGUI inventory closed by " + player.getName() + ", Active: " + isActive);
             
             if (isActive) {
                 plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                     if (isActive && activeGuis.containsKey(player.getUniqueId())) {
-                        plugin.getLogger().info("[DEBUG] Final cleanup BulkItemSelectorGUI for " + player.getName());
+                        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Final cleanup BulkItemSelectorGUI for " + player.getName());
                         forceCleanup();
                         parentGUI.refreshAndReopen();
                     }
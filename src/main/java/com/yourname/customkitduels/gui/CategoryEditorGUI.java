@@ -1,13 +1,11 @@
 package com.yourname.customkitduels.gui;
 
 import com.yourname.customkitduels.CustomKitDuels;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
@@ -16,7 +14,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.*;
 
-public class CategoryEditorGUI implements Listener {
+public class CategoryEditorGUI implements GUI {
     
     private final CustomKitDuels plugin;
     private final Player player;
@@ -30,13 +28,12 @@ public class CategoryEditorGUI implements Listener {
         this.plugin = plugin;
         this.player = player;
         this.categoryName = categoryName.toUpperCase();
-        this.gui = Bukkit.createInventory(null, 54, ChatColor.DARK_GREEN + "Editing: " + this.categoryName);
+        this.gui = Bukkit.createInventory(this, 54, ChatColor.DARK_GREEN + "Editing: " + this.categoryName);
         this.categoryItems = new ArrayList<>(plugin.getCategoryManager().getCategoryItems(this.categoryName));
         
-        plugin.getLogger().info("[DEBUG] Creating CategoryEditorGUI for player " + player.getName() + " category " + this.categoryName);
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Creating CategoryEditorGUI for player " + player.getName() + " category " + this.categoryName);
         
         setupGUI();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     private void setupGUI() {
@@ -53,20 +50,10 @@ public class CategoryEditorGUI implements Listener {
         }
         
         // Reset to default button
-        ItemStack resetButton = new ItemStack(Material.YELLOW_STAINED_GLASS_PANE);
-        ItemMeta resetMeta = resetButton.getItemMeta();
-        resetMeta.setDisplayName(ChatColor.YELLOW + "Reset to Default");
-        resetMeta.setLore(Arrays.asList(ChatColor.GRAY + "Load default items for this category"));
-        resetButton.setItemMeta(resetMeta);
-        gui.setItem(45, resetButton);
+        gui.setItem(45, GUIIcons.RESET_CATEGORY);
         
         // Clear all button
-        ItemStack clearButton = new ItemStack(Material.RED_STAINED_GLASS_PANE);
-        ItemMeta clearMeta = clearButton.getItemMeta();
-        clearMeta.setDisplayName(ChatColor.RED + "Clear All");
-        clearMeta.setLore(Arrays.asList(ChatColor.GRAY + "Remove all items from category"));
-        clearButton.setItemMeta(clearMeta);
-        gui.setItem(46, clearButton);
+        gui.setItem(46, GUIIcons.CLEAR_CATEGORY);
         
         // Save button
         ItemStack saveButton = new ItemStack(Material.EMERALD);
@@ -80,20 +67,20 @@ public class CategoryEditorGUI implements Listener {
         gui.setItem(49, saveButton);
         
         // Cancel button
-        ItemStack cancelButton = new ItemStack(Material.BARRIER);
-        ItemMeta cancelMeta = cancelButton.getItemMeta();
-        cancelMeta.setDisplayName(ChatColor.RED + "Cancel");
-        cancelMeta.setLore(Arrays.asList(ChatColor.GRAY + "Discard changes"));
-        cancelButton.setItemMeta(cancelMeta);
-        gui.setItem(53, cancelButton);
+        gui.setItem(53, GUIIcons.CANCEL_CATEGORY);
+    }
+    
+    @Override
+    public Inventory getInventory() {
+        return gui;
     }
     
     public void open() {
-        plugin.getLogger().info("[DEBUG] Opening CategoryEditorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening CategoryEditorGUI for " + player.getName());
         
         CategoryEditorGUI existing = activeGuis.get(player.getUniqueId());
         if (existing != null && existing != this) {
-            plugin.getLogger().info("[DEBUG] Cleaning up existing CategoryEditorGUI for " + player.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Cleaning up existing CategoryEditorGUI for " + player.getName());
             existing.forceCleanup();
         }
         
@@ -102,18 +89,18 @@ public class CategoryEditorGUI implements Listener {
         player.openInventory(gui);
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onInventoryClick(InventoryClickEvent event) {
+    @Override
+    public void handleClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
         Player clicker = (Player) event.getWhoClicked();
         
-        if (!clicker.equals(player) || !event.getInventory().equals(gui) || !isActive) {
+        if (!clicker.equals(player) || !isActive) {
             return;
         }
         
         int slot = event.getSlot();
         
-        plugin.getLogger().info("[DEBUG] CategoryEditorGUI click event - Player: " + player.getName() + ", Slot: " + slot);
+        plugin.getDebugLogger().trace(Subsystem.GUI, () -> "CategoryEditorGUI click event - Player: " + player.getName() + ", Slot: " + slot);
         
         // Handle control buttons
         if (slot == 45) { // Reset to default
@@ -199,25 +186,24 @@ public class CategoryEditorGUI implements Listener {
     }
     
     private void forceCleanup() {
-        plugin.getLogger().info("[DEBUG] Force cleanup CategoryEditorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Force cleanup CategoryEditorGUI for " + player.getName());
         isActive = false;
         activeGuis.remove(player.getUniqueId());
-        InventoryClickEvent.getHandlerList().unregister(this);
-        InventoryCloseEvent.getHandlerList().unregister(this);
+        plugin.getGuiManager().unregisterGUI(this);
         player.closeInventory();
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onInventoryClose(InventoryCloseEvent event) {
+    @Override
+    public void handleClose(InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player)) return;
         Player closer = (Player) event.getPlayer();
         
-        if (closer.equals(player) && event.getInventory().equals(gui)) {
-            plugin.getLogger().info("[DEBUG] CategoryEditorGUI inventory closed by " + player.getName() + ", Active: " + isActive);
+        if (closer.equals(player)) {
+            plugin.getDebugLogger().trace(Subsystem.GUI, () -> "CategoryEditorGUI inventory closed by " + player.getName() + ", Active: " + isActive);
             
             plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                 if (isActive && activeGuis.containsKey(player.getUniqueId())) {
-                    plugin.getLogger().info("[DEBUG] Final cleanup CategoryEditorGUI for " + player.getName());
+                    plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Final cleanup CategoryEditorGUI for " + player.getName());
                     forceCleanup();
                 }
             }, 3L);
@@ -0,0 +1,32 @@
+package com.yourname.customkitduels.gui;
+
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.InventoryHolder;
+
+/**
+ * A menu whose events are dispatched by the plugin-wide GUIManager instead of
+ * registering its own listener. Menus create their inventory with themselves as
+ * the holder, so ownership is resolved from the event's inventory holder.
+ */
+public interface GUI extends InventoryHolder {
+
+    void handleClick(InventoryClickEvent event);
+
+    void handleClose(InventoryCloseEvent event);
+
+    /**
+     * Called for chat messages while this menu is awaiting input for its player.
+     * Runs on the async chat thread.
+     */
+    default void handleChat(AsyncPlayerChatEvent event) {
+    }
+
+    /**
+     * Called for interactions while this menu is awaiting input for its player.
+     */
+    default void handleInteract(PlayerInteractEvent event) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.yourname.customkitduels.gui;
+
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Arrays;
+
+/**
+ * Prebuilt buttons and placeholder panes shared by every menu.
+ *
+ * Inventory.setItem stores a copy of the stack it is given, so these instances
+ * can be handed to any inventory as-is. They must never be modified; clone one
+ * first if a menu needs a variant.
+ */
+public final class GUIIcons {
+
+    private static final String[] ARMOR_SLOT_NAMES = {"Boots", "Leggings", "Chestplate", "Helmet"};
+
+    private static final ItemStack[] SLOT_PANES = new ItemStack[36];
+    private static final ItemStack[] ARMOR_PANES = new ItemStack[4];
+
+    static {
+        for (int i = 0; i < SLOT_PANES.length; i++) {
+            SLOT_PANES[i] = icon(Material.PURPLE_STAINED_GLASS_PANE, ChatColor.AQUA + "Slot #" + (i + 1),
+                ChatColor.GRAY + "Left-click to add an item",
+                ChatColor.GRAY + "Right-click to modify (if item present)",
+                ChatColor.YELLOW + "Shift-click to enter bulk mode",
+                ChatColor.GREEN + "💡 TIP: Use bulk mode for quick filling!");
+        }
+        for (int i = 0; i < ARMOR_PANES.length; i++) {
+            ARMOR_PANES[i] = icon(Material.GREEN_STAINED_GLASS_PANE, ChatColor.AQUA + ARMOR_SLOT_NAMES[i] + " Slot",
+                ChatColor.GRAY + "Left-click to add " + ARMOR_SLOT_NAMES[i].toLowerCase(),
+                ChatColor.GRAY + "Right-click to modify (if armor present)");
+        }
+    }
+
+    // Kit editor
+    public static final ItemStack OFFHAND_PANE = icon(Material.ORANGE_STAINED_GLASS_PANE, ChatColor.AQUA + "Offhand Slot",
+        ChatColor.GRAY + "Left-click to add offhand item",
+        ChatColor.GRAY + "Right-click to modify (if item present)");
+    public static final ItemStack SAVE_KIT = icon(Material.EMERALD, ChatColor.GREEN + "Save Kit",
+        ChatColor.GRAY + "Click to save this kit");
+    public static final ItemStack CANCEL_KIT = icon(Material.REDSTONE, ChatColor.RED + "Cancel",
+        ChatColor.GRAY + "Click to cancel");
+    public static final ItemStack CLEAR_KIT = icon(Material.BARRIER, ChatColor.YELLOW + "Clear All",
+        ChatColor.GRAY + "Click to clear all slots");
+    public static final ItemStack BULK_MODE_INACTIVE = icon(Material.YELLOW_STAINED_GLASS_PANE, ChatColor.YELLOW + "🔥 ACTIVATE BULK MODE",
+        ChatColor.GRAY + "Quick-fill multiple slots with the same item",
+        ChatColor.GREEN + "Click to select an item for bulk placement",
+        ChatColor.AQUA + "Or shift-click any slot with an item",
+        ChatColor.GOLD + "💡 Great for arrows, blocks, food, etc!");
+    public static final ItemStack BULK_MODE_HELP = icon(Material.BOOK, ChatColor.AQUA + "📖 Bulk Mode Help",
+        ChatColor.GRAY + "Bulk mode allows you to quickly fill",
+        ChatColor.GRAY + "multiple slots with the same item.",
+        ChatColor.YELLOW + "Ways to activate:",
+        ChatColor.WHITE + "• Click the yellow bulk button",
+        ChatColor.WHITE + "• Shift-click any slot with an item",
+        ChatColor.GREEN + "Perfect for: arrows, food, blocks!");
+
+    // Categories
+    public static final ItemStack CATEGORY_WEAPONS = icon(Material.DIAMOND_SWORD, ChatColor.RED + "⚔ Weapons",
+        ChatColor.GRAY + "Swords, axes, bows, and more");
+    public static final ItemStack CATEGORY_ARMOR = icon(Material.DIAMOND_CHESTPLATE, ChatColor.BLUE + "🛡 Armor",
+        ChatColor.GRAY + "Helmets, chestplates, leggings, boots");
+    public static final ItemStack CATEGORY_BLOCKS = icon(Material.OBSIDIAN, ChatColor.DARK_GRAY + "🧱 Blocks",
+        ChatColor.GRAY + "Building and utility blocks");
+    public static final ItemStack CATEGORY_FOOD = icon(Material.GOLDEN_APPLE, ChatColor.GOLD + "🍖 Food",
+        ChatColor.GRAY + "Food items and consumables");
+    public static final ItemStack CATEGORY_POTIONS = icon(Material.SPLASH_POTION, ChatColor.LIGHT_PURPLE + "🧪 Potions",
+        ChatColor.GRAY + "Potions and brewing items");
+    public static final ItemStack CATEGORY_TOOLS = icon(Material.DIAMOND_PICKAXE, ChatColor.AQUA + "🧰 Tools",
+        ChatColor.GRAY + "Pickaxes, shovels, and other tools");
+    public static final ItemStack CATEGORY_UTILITY = icon(Material.ENDER_PEARL, ChatColor.GREEN + "🧨 Utility",
+        ChatColor.GRAY + "Ender pearls, flint and steel, etc.");
+    public static final ItemStack CATEGORY_MISC = icon(Material.BOOK, ChatColor.YELLOW + "❓ Misc",
+        ChatColor.GRAY + "Other miscellaneous items");
+
+    // Category editor
+    public static final ItemStack RESET_CATEGORY = icon(Material.YELLOW_STAINED_GLASS_PANE, ChatColor.YELLOW + "Reset to Default",
+        ChatColor.GRAY + "Load default items for this category");
+    public static final ItemStack CLEAR_CATEGORY = icon(Material.RED_STAINED_GLASS_PANE, ChatColor.RED + "Clear All",
+        ChatColor.GRAY + "Remove all items from category");
+    public static final ItemStack CANCEL_CATEGORY = icon(Material.BARRIER, ChatColor.RED + "Cancel",
+        ChatColor.GRAY + "Discard changes");
+
+    // Item modification
+    public static final ItemStack MODIFY_ENCHANTMENTS = icon(Material.ENCHANTED_BOOK, ChatColor.LIGHT_PURPLE + "Modify Enchantments",
+        ChatColor.GRAY + "Add or modify enchantments",
+        ChatColor.GRAY + "Click to open enchantment menu");
+    public static final ItemStack CHANGE_POTION = icon(Material.BREWING_STAND, ChatColor.AQUA + "Change Potion Type",
+        ChatColor.GRAY + "Change the potion effect",
+        ChatColor.GRAY + "Click to open potion menu");
+    public static final ItemStack REMOVE_ITEM = icon(Material.BARRIER, ChatColor.RED + "Remove Item",
+        ChatColor.GRAY + "Remove this item from the slot");
+
+    // Selectors
+    public static final ItemStack CLEAR_SLOT = icon(Material.BARRIER, ChatColor.RED + "Clear Slot",
+        ChatColor.GRAY + "Remove item from this slot");
+    public static final ItemStack CLEAR_ARMOR_SLOT = icon(Material.BARRIER, ChatColor.RED + "Clear Slot",
+        ChatColor.GRAY + "Remove armor from this slot");
+    public static final ItemStack CLEAR_ENCHANTMENTS = icon(Material.BARRIER, ChatColor.RED + "Clear All Enchantments",
+        ChatColor.GRAY + "Remove all enchantments from this item");
+    public static final ItemStack APPLY_ENCHANTMENTS = icon(Material.EMERALD, ChatColor.GREEN + "Apply Changes",
+        ChatColor.GRAY + "Click to apply enchantments");
+    public static final ItemStack APPLY_POTION = icon(Material.EMERALD, ChatColor.GREEN + "Apply Changes",
+        ChatColor.GRAY + "Click to apply potion type");
+    public static final ItemStack PREVIOUS_PAGE = icon(Material.ARROW, ChatColor.YELLOW + "Previous Page");
+    public static final ItemStack NEXT_PAGE = icon(Material.ARROW, ChatColor.YELLOW + "Next Page");
+
+    // Back buttons
+    public static final ItemStack BACK = icon(Material.RED_STAINED_GLASS_PANE, ChatColor.RED + "Back");
+    public static final ItemStack BACK_TO_EDITOR = icon(Material.RED_STAINED_GLASS_PANE, ChatColor.RED + "Back",
+        ChatColor.GRAY + "Return to kit editor");
+    public static final ItemStack BACK_WITHOUT_SAVING = icon(Material.RED_STAINED_GLASS_PANE, ChatColor.RED + "Back",
+        ChatColor.GRAY + "Return without saving");
+
+    private GUIIcons() {
+    }
+
+    /**
+     * Placeholder pane for an empty main inventory slot (0-35).
+     */
+    public static ItemStack slotPane(int slot) {
+        return SLOT_PANES[slot];
+    }
+
+    /**
+     * Placeholder pane for an empty armor slot (0 = boots, 3 = helmet).
+     */
+    public static ItemStack armorPane(int armorIndex) {
+        return ARMOR_PANES[armorIndex];
+    }
+
+    private static ItemStack icon(Material material, String name, String... lore) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(name);
+        if (lore.length > 0) {
+            meta.setLore(Arrays.asList(lore));
+        }
+        item.setItemMeta(meta);
+        return item;
+    }
+}
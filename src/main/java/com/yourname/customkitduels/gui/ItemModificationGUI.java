@@ -1,13 +1,11 @@
 package com.yourname.customkitduels.gui;
 
 import com.yourname.customkitduels.CustomKitDuels;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
@@ -17,7 +15,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.*;
 
-public class ItemModificationGUI implements Listener {
+public class ItemModificationGUI implements GUI {
     
     private final CustomKitDuels plugin;
     private final Player player;
@@ -36,12 +34,11 @@ public class ItemModificationGUI implements Listener {
         this.parentGUI = parentGUI;
         this.targetSlot = targetSlot;
         this.targetItem = targetItem.clone();
-        this.gui = Bukkit.createInventory(null, 27, ChatColor.DARK_RED + "Modify Item");
+        this.gui = Bukkit.createInventory(this, 27, ChatColor.DARK_RED + "Modify Item");
         
-        plugin.getLogger().info("[DEBUG] Creating ItemModificationGUI for player " + player.getName() + " slot " + targetSlot);
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Creating ItemModificationGUI for player " + player.getName() + " slot " + targetSlot);
         
         setupGUI();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     private void setupGUI() {
@@ -66,45 +63,19 @@ public class ItemModificationGUI implements Listener {
         
         // Enchantments option (for enchantable items)
         if (canBeEnchanted(targetItem.getType())) {
-            ItemStack enchantItem = new ItemStack(Material.ENCHANTED_BOOK);
-            ItemMeta enchantMeta = enchantItem.getItemMeta();
-            enchantMeta.setDisplayName(ChatColor.LIGHT_PURPLE + "Modify Enchantments");
-            enchantMeta.setLore(Arrays.asList(
-                ChatColor.GRAY + "Add or modify enchantments",
-                ChatColor.GRAY + "Click to open enchantment menu"
-            ));
-            enchantItem.setItemMeta(enchantMeta);
-            gui.setItem(12, enchantItem);
+            gui.setItem(12, GUIIcons.MODIFY_ENCHANTMENTS);
         }
         
         // Potion effects (for potions)
         if (isPotionItem(targetItem.getType())) {
-            ItemStack potionItem = new ItemStack(Material.BREWING_STAND);
-            ItemMeta potionMeta = potionItem.getItemMeta();
-            potionMeta.setDisplayName(ChatColor.AQUA + "Change Potion Type");
-            potionMeta.setLore(Arrays.asList(
-                ChatColor.GRAY + "Change the potion effect",
-                ChatColor.GRAY + "Click to open potion menu"
-            ));
-            potionItem.setItemMeta(potionMeta);
-            gui.setItem(14, potionItem);
+            gui.setItem(14, GUIIcons.CHANGE_POTION);
         }
         
         // Remove item option
-        ItemStack removeItem = new ItemStack(Material.BARRIER);
-        ItemMeta removeMeta = removeItem.getItemMeta();
-        removeMeta.setDisplayName(ChatColor.RED + "Remove Item");
-        removeMeta.setLore(Arrays.asList(ChatColor.GRAY + "Remove this item from the slot"));
-        removeItem.setItemMeta(removeMeta);
-        gui.setItem(16, removeItem);
+        gui.setItem(16, GUIIcons.REMOVE_ITEM);
         
         // Back button
-        ItemStack backItem = new ItemStack(Material.RED_STAINED_GLASS_PANE);
-        ItemMeta backMeta = backItem.getItemMeta();
-        backMeta.setDisplayName(ChatColor.RED + "Back");
-        backMeta.setLore(Arrays.asList(ChatColor.GRAY + "Return to kit editor"));
-        backItem.setItemMeta(backMeta);
-        gui.setItem(22, backItem);
+        gui.setItem(22, GUIIcons.BACK_TO_EDITOR);
     }
     
     private boolean canBeEnchanted(Material material) {
@@ -136,12 +107,17 @@ public class ItemModificationGUI implements Listener {
                material == Material.LINGERING_POTION;
     }
     
+    @Override
+    public Inventory getInventory() {
+        return gui;
+    }
+    
     public void open() {
-        plugin.getLogger().info("[DEBUG] Opening ItemModificationGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening ItemModificationGUI for " + player.getName());
         
         ItemModificationGUI existing = activeGuis.get(player.getUniqueId());
         if (existing != null && existing != this) {
-            plugin.getLogger().info("[DEBUG] Cleaning up existing ItemModificationGUI for " + player.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Cleaning up existing ItemModificationGUI for " + player.getName());
             existing.forceCleanup();
         }
         
@@ -151,19 +127,19 @@ public class ItemModificationGUI implements Listener {
         player.openInventory(gui);
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onInventoryClick(InventoryClickEvent event) {
+    @Override
+    public void handleClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
         Player clicker = (Player) event.getWhoClicked();
         
-        if (!clicker.equals(player) || !event.getInventory().equals(gui) || !isActive || isNavigating) {
+        if (!clicker.equals(player) || !isActive || isNavigating) {
             return;
         }
         
         event.setCancelled(true);
         int slot = event.getSlot();
         
-        plugin.getLogger().info("[DEBUG] ItemModificationGUI click event - Player: " + player.getName() + ", Slot: " + slot);
+        plugin.getDebugLogger().trace(Subsystem.GUI, () -> "ItemModificationGUI click event - Player: " + player.getName() + ", Slot: " + slot);
         
         switch (slot) {
             case 10: // Stack size
@@ -191,15 +167,16 @@ public class ItemModificationGUI implements Listener {
     }
     
     private void requestStackSize() {
-        plugin.getLogger().info("[DEBUG] Requesting stack size from " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Requesting stack size from " + player.getName());
         waitingForStackSize.add(player.getUniqueId());
+        plugin.getGuiManager().awaitInput(player, this);
         isNavigating = true;
         player.closeInventory();
         player.sendMessage(ChatColor.YELLOW + "Enter the new stack size (1-" + targetItem.getMaxStackSize() + ") in chat:");
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onPlayerChat(AsyncPlayerChatEvent event) {
+    @Override
+    public void handleChat(AsyncPlayerChatEvent event) {
         if (!waitingForStackSize.contains(event.getPlayer().getUniqueId())) {
             return;
         }
@@ -211,6 +188,7 @@ public class ItemModificationGUI implements Listener {
         
         event.setCancelled(true);
         waitingForStackSize.remove(player.getUniqueId());
+        plugin.getGuiManager().stopAwaitingInput(player);
         
         String message = event.getMessage().trim();
         
@@ -241,7 +219,7 @@ public class ItemModificationGUI implements Listener {
     }
     
     private void openEnchantmentMenu() {
-        plugin.getLogger().info("[DEBUG] Opening enchantment menu for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening enchantment menu for " + player.getName());
         isNavigating = true;
         
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
@@ -250,7 +228,7 @@ public class ItemModificationGUI implements Listener {
     }
     
     private void openPotionMenu() {
-        plugin.getLogger().info("[DEBUG] Opening potion menu for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening potion menu for " + player.getName());
         isNavigating = true;
         
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
@@ -259,14 +237,14 @@ public class ItemModificationGUI implements Listener {
     }
     
     private void removeItem() {
-        plugin.getLogger().info("[DEBUG] Removing item from slot " + targetSlot);
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Removing item from slot " + targetSlot);
         parentGUI.clearSlot(targetSlot);
         player.sendMessage(ChatColor.YELLOW + "Item removed from slot!");
         returnToParent();
     }
     
     private void returnToParent() {
-        plugin.getLogger().info("[DEBUG] Returning to parent GUI for player " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Returning to parent GUI for player " + player.getName());
         isNavigating = true;
         forceCleanup();
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
@@ -281,33 +259,31 @@ public class ItemModificationGUI implements Listener {
     }
     
     public void refreshAndReopen() {
-        plugin.getLogger().info("[DEBUG] Refreshing and reopening ItemModificationGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Refreshing and reopening ItemModificationGUI for " + player.getName());
         isNavigating = false;
         setupGUI();
         
-        if (!player.getOpenInventory().getTopInventory().equals(gui)) {
+        if (player.getOpenInventory().getTopInventory().getHolder() != this) {
             player.openInventory(gui);
         }
     }
     
     private void forceCleanup() {
-        plugin.getLogger().info("[DEBUG] Force cleanup ItemModificationGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Force cleanup ItemModificationGUI for " + player.getName());
         isActive = false;
         activeGuis.remove(player.getUniqueId());
         waitingForStackSize.remove(player.getUniqueId());
-        InventoryClickEvent.getHandlerList().unregister(this);
-        InventoryCloseEvent.getHandlerList().unregister(this);
-        AsyncPlayerChatEvent.getHandlerList().unregister(this);
+        plugin.getGuiManager().unregisterGUI(this);
         player.closeInventory();
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onInventoryClose(InventoryCloseEvent event) {
+    @Override
+    public void handleClose(InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player)) return;
         Player closer = (Player) event.getPlayer();
         
-        if (closer.equals(player) && event.getInventory().equals(gui)) {
-            plugin.getLogger().info("[DEBUG] ItemModificationGUI inventory closed by " + player.getName() + ", Active: " + isActive + ", Navigating: " + isNavigating);
+        if (closer.equals(player)) {
+            plugin.getDebugLogger().trace(Subsystem.GUI, () -> "ItemModificationGUI inventory closed by " + player.getName() + ", Active: " + isActive + ", Navigating: " + isNavigating);
             
             // Don't cleanup if waiting for chat input or navigating
             if (waitingForStackSize.contains(player.getUniqueId()) || isNavigating) {
@@ -316,7 +292,7 @@ public class ItemModificationGUI implements Listener {
             
             plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                 if (isActive && !isNavigating && activeGuis.containsKey(player.getUniqueId())) {
-                    plugin.getLogger().info("[DEBUG] Final cleanup ItemModificationGUI for " + player.getName());
+                    plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Final cleanup ItemModificationGUI for " + player.getName());
                     forceCleanup();
                     parentGUI.refreshAndReopen();
                 }
@@ -1,30 +1,28 @@
 package com.yourname.customkitduels.gui;
 
 import com.yourname.customkitduels.CustomKitDuels;
+import com.yourname.customkitduels.data.ItemCatalog;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.*;
 
-public class ItemSelectorGUI implements Listener {
+public class ItemSelectorGUI implements GUI {
     
     private final CustomKitDuels plugin;
     private final Player player;
-    private final KitEditorGUI parentGUI;
-    private final int targetSlot;
+    private KitEditorGUI parentGUI;
+    private int targetSlot;
     private final String category;
     private final Inventory gui;
-    private final List<ItemStack> categoryItems;
+    private ItemCatalog catalog;
     private int currentPage = 0;
     private static final Map<UUID, ItemSelectorGUI> activeGuis = new HashMap<>();
     private boolean isActive = true;
@@ -36,13 +34,12 @@ public class ItemSelectorGUI implements Listener {
         this.parentGUI = parentGUI;
         this.targetSlot = targetSlot;
         this.category = category;
-        this.categoryItems = plugin.getCategoryManager().getCategoryItems(category);
-        this.gui = Bukkit.createInventory(null, 54, ChatColor.DARK_PURPLE + category + " Items");
+        this.catalog = plugin.getCategoryManager().getCatalog(category);
+        this.gui = Bukkit.createInventory(this, 54, ChatColor.DARK_PURPLE + category + " Items");
         
-        plugin.getLogger().info("[DEBUG] Creating ItemSelectorGUI for player " + player.getName() + " category " + category + " slot " + targetSlot);
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Creating ItemSelectorGUI for player " + player.getName() + " category " + category + " slot " + targetSlot);
         
         setupGUI();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     private void setupGUI() {
@@ -50,65 +47,54 @@ public class ItemSelectorGUI implements Listener {
         
         int itemsPerPage = 45;
         int startIndex = currentPage * itemsPerPage;
-        int endIndex = Math.min(startIndex + itemsPerPage, categoryItems.size());
+        int endIndex = Math.min(startIndex + itemsPerPage, catalog.size());
         
-        // Add items for current page
+        // Only the visible page is materialized
         for (int i = startIndex; i < endIndex; i++) {
-            ItemStack item = categoryItems.get(i).clone();
-            ItemMeta meta = item.getItemMeta();
-            if (meta.getDisplayName() == null || meta.getDisplayName().isEmpty()) {
-                meta.setDisplayName(ChatColor.WHITE + formatMaterialName(item.getType().name()));
-            }
-            item.setItemMeta(meta);
-            gui.setItem(i - startIndex, item);
+            gui.setItem(i - startIndex, catalog.getSelectorIcon(i));
         }
         
         // Navigation buttons
         if (currentPage > 0) {
-            ItemStack prevPage = new ItemStack(Material.ARROW);
-            ItemMeta prevMeta = prevPage.getItemMeta();
-            prevMeta.setDisplayName(ChatColor.YELLOW + "Previous Page");
-            prevPage.setItemMeta(prevMeta);
-            gui.setItem(45, prevPage);
+            gui.setItem(45, GUIIcons.PREVIOUS_PAGE);
         }
         
-        if (endIndex < categoryItems.size()) {
-            ItemStack nextPage = new ItemStack(Material.ARROW);
-            ItemMeta nextMeta = nextPage.getItemMeta();
-            nextMeta.setDisplayName(ChatColor.YELLOW + "Next Page");
-            nextPage.setItemMeta(nextMeta);
-            gui.setItem(53, nextPage);
+        if (endIndex < catalog.size()) {
+            gui.setItem(53, GUIIcons.NEXT_PAGE);
         }
         
         // Back button
-        ItemStack back = new ItemStack(Material.RED_STAINED_GLASS_PANE);
-        ItemMeta backMeta = back.getItemMeta();
-        backMeta.setDisplayName(ChatColor.RED + "Back");
-        back.setItemMeta(backMeta);
-        gui.setItem(49, back);
+        gui.setItem(49, GUIIcons.BACK);
     }
     
-    private String formatMaterialName(String materialName) {
-        String[] words = materialName.toLowerCase().split("_");
-        StringBuilder formatted = new StringBuilder();
+    /**
+     * Points a pooled instance at a new editor slot and picks up any category
+     * edits made since it was last shown.
+     */
+    void reset(KitEditorGUI parentGUI, int targetSlot) {
+        this.parentGUI = parentGUI;
+        this.targetSlot = targetSlot;
         
-        for (String word : words) {
-            if (formatted.length() > 0) {
-                formatted.append(" ");
-            }
-            formatted.append(word.substring(0, 1).toUpperCase()).append(word.substring(1));
+        ItemCatalog latest = plugin.getCategoryManager().getCatalog(category);
+        if (currentPage != 0 || latest != catalog) {
+            catalog = latest;
+            currentPage = 0;
+            setupGUI();
         }
-        
-        return formatted.toString();
+    }
+    
+    @Override
+    public Inventory getInventory() {
+        return gui;
     }
     
     public void open() {
-        plugin.getLogger().info("[DEBUG] Opening ItemSelectorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening ItemSelectorGUI for " + player.getName());
         
         // Clean up any existing item selector GUI for this player
         ItemSelectorGUI existing = activeGuis.get(player.getUniqueId());
         if (existing != null && existing != this) {
-            plugin.getLogger().info("[DEBUG] Cleaning up existing ItemSelectorGUI for " + player.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Cleaning up existing ItemSelectorGUI for " + player.getName());
             existing.forceCleanup();
         }
         
@@ -120,36 +106,35 @@ public class ItemSelectorGUI implements Listener {
         player.openInventory(gui);
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onInventoryClick(InventoryClickEvent event) {
+    @Override
+    public void handleClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
         Player clicker = (Player) event.getWhoClicked();
         
-        // CRITICAL: Only handle events for our specific player and GUI
+        // CRITICAL: Only handle events for our specific player
         if (!clicker.getUniqueId().equals(player.getUniqueId())) return;
-        if (!event.getInventory().equals(gui)) return;
         if (!isActive || isNavigating) return;
         
         event.setCancelled(true);
         int slot = event.getSlot();
         
-        plugin.getLogger().info("[DEBUG] ItemSelectorGUI click event - Player: " + player.getName() + ", Slot: " + slot);
+        plugin.getDebugLogger().trace(Subsystem.GUI, () -> "ItemSelectorGUI click event - Player: " + player.getName() + ", Slot: " + slot);
         
         if (slot == 45 && currentPage > 0) { // Previous page
-            plugin.getLogger().info("[DEBUG] Previous page clicked");
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Previous page clicked");
             currentPage--;
             setupGUI();
-        } else if (slot == 53 && (currentPage + 1) * 45 < categoryItems.size()) { // Next page
-            plugin.getLogger().info("[DEBUG] Next page clicked");
+        } else if (slot == 53 && (currentPage + 1) * 45 < catalog.size()) { // Next page
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Next page clicked");
             currentPage++;
             setupGUI();
         } else if (slot == 49) { // Back button
-            plugin.getLogger().info("[DEBUG] Back to category clicked");
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Back to category clicked");
             returnToCategory();
         } else if (slot < 45) { // Item selection
             ItemStack clickedItem = event.getCurrentItem();
             if (clickedItem != null && clickedItem.getType() != Material.AIR) {
-                plugin.getLogger().info("[DEBUG] Item selected: " + clickedItem.getType() + " for slot " + targetSlot);
+                plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Item selected: " + clickedItem.getType() + " for slot " + targetSlot);
                 parentGUI.setSlotItem(targetSlot, clickedItem.clone());
                 player.sendMessage(ChatColor.GREEN + "Item added to slot " + getSlotDisplayName(targetSlot) + "!");
                 returnToParent();
@@ -170,7 +155,7 @@ public class ItemSelectorGUI implements Listener {
     }
     
     private void returnToCategory() {
-        plugin.getLogger().info("[DEBUG] Returning to category selector for player " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Returning to category selector for player " + player.getName());
         
         // Set navigation state and deactivate this GUI
         isNavigating = true;
@@ -179,12 +164,12 @@ public class ItemSelectorGUI implements Listener {
         
         // Return to category with direct transition
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            new CategorySelectorGUI(plugin, player, parentGUI, targetSlot).open();
+            plugin.getGuiManager().getSession(player).categorySelector(parentGUI, targetSlot).open();
         }, 1L);
     }
     
     private void returnToParent() {
-        plugin.getLogger().info("[DEBUG] Returning to parent GUI for player " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Returning to parent GUI for player " + player.getName());
         
         // Set navigation state and deactivate this GUI
         isNavigating = true;
@@ -198,28 +183,27 @@ public class ItemSelectorGUI implements Listener {
     }
     
     private void forceCleanup() {
-        plugin.getLogger().info("[DEBUG] Force cleanup ItemSelectorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Force cleanup ItemSelectorGUI for " + player.getName());
         isActive = false;
         isNavigating = false;
         activeGuis.remove(player.getUniqueId());
-        InventoryClickEvent.getHandlerList().unregister(this);
-        InventoryCloseEvent.getHandlerList().unregister(this);
+        plugin.getGuiManager().unregisterGUI(this);
         // REMOVED: player.closeInventory(); - This was causing cursor reset
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onInventoryClose(InventoryCloseEvent event) {
+    @Override
+    public void handleClose(InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player)) return;
         Player closer = (Player) event.getPlayer();
         
-        if (closer.getUniqueId().equals(player.getUniqueId()) && event.getInventory().equals(gui)) {
-            plugin.getLogger().info("[DEBUG] ItemSelectorGUI inventory closed by " + player.getName() + ", Active: " + isActive + ", Navigating: " + isNavigating);
+        if (closer.getUniqueId().equals(player.getUniqueId())) {
+            plugin.getDebugLogger().trace(Subsystem.GUI, () -> "ItemSelectorGUI inventory closed by " + player.getName() + ", Active: " + isActive + ", Navigating: " + isNavigating);
             
             // Only cleanup if not navigating
             if (isActive && !isNavigating) {
                 plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                     if (isActive && !isNavigating && activeGuis.containsKey(player.getUniqueId())) {
-                        plugin.getLogger().info("[DEBUG] Final cleanup ItemSelectorGUI for " + player.getName());
+                        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Final cleanup ItemSelectorGUI for " + player.getName());
                         forceCleanup();
                         parentGUI.refreshAndReopen();
                     }
@@ -2,13 +2,11 @@ package com.yourname.customkitduels.gui;
 
 import com.yourname.customkitduels.CustomKitDuels;
 import com.yourname.customkitduels.data.Kit;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
@@ -16,12 +14,15 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
-public class KitEditorGUI implements Listener {
+public class KitEditorGUI implements GUI {
     
     private final CustomKitDuels plugin;
     private final Player player;
@@ -35,36 +36,45 @@ public class KitEditorGUI implements Listener {
     private boolean isBulkMode = false;
     private ItemStack bulkItem = null;
     private boolean isNavigating = false;
+    // Kit slots (0-40) and controls changed since the last paint
+    private final BitSet dirtySlots = new BitSet(41);
+    private boolean controlsDirty = false;
     
     public KitEditorGUI(CustomKitDuels plugin, Player player, String kitName) {
         this.plugin = plugin;
         this.player = player;
         this.kitName = kitName;
-        this.gui = Bukkit.createInventory(null, 54, ChatColor.DARK_BLUE + "Editing Kit " + kitName);
+        this.gui = Bukkit.createInventory(this, 54, ChatColor.DARK_BLUE + "Editing Kit " + kitName);
         this.kitContents = new ItemStack[36];
         this.kitArmor = new ItemStack[4];
         this.offhandItem = null;
         
-        plugin.getLogger().info("[DEBUG] Creating KitEditorGUI for player " + player.getName() + " with kit " + kitName);
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Creating KitEditorGUI for player " + player.getName() + " with kit " + kitName);
         
         // Load existing kit if editing
         Kit existingKit = plugin.getKitManager().getKit(player.getUniqueId(), kitName);
         if (existingKit != null) {
-            plugin.getLogger().info("[DEBUG] Loading existing kit data for " + kitName);
-            System.arraycopy(existingKit.getContents(), 0, kitContents, 0, Math.min(existingKit.getContents().length, 36));
-            System.arraycopy(existingKit.getArmor(), 0, kitArmor, 0, 4);
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Loading existing kit data for " + kitName);
+            // Copy the items, the kit's own items may be shared with other players' kits
+            ItemStack[] contents = existingKit.getContents();
+            for (int i = 0; i < Math.min(contents.length, 36); i++) {
+                kitContents[i] = contents[i] != null ? contents[i].clone() : null;
+            }
+            ItemStack[] armor = existingKit.getArmor();
+            for (int i = 0; i < Math.min(armor.length, 4); i++) {
+                kitArmor[i] = armor[i] != null ? armor[i].clone() : null;
+            }
             // Load offhand if available (stored in slot 36 of contents array)
-            if (existingKit.getContents().length > 36 && existingKit.getContents()[36] != null) {
-                this.offhandItem = existingKit.getContents()[36];
+            if (contents.length > 36 && contents[36] != null) {
+                this.offhandItem = contents[36].clone();
             }
         }
         
         setupGUI();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     private void setupGUI() {
-        plugin.getLogger().info("[DEBUG] Setting up GUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Setting up GUI for " + player.getName());
         
         // Clear GUI first
         gui.clear();
@@ -85,43 +95,27 @@ public class KitEditorGUI implements Listener {
         // Add control buttons
         setupControlButtons();
         
-        plugin.getLogger().info("[DEBUG] GUI setup complete for " + player.getName());
+        dirtySlots.clear();
+        controlsDirty = false;
+        
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "GUI setup complete for " + player.getName());
     }
     
     private void updateSlot(int slot) {
         if (kitContents[slot] != null) {
             gui.setItem(slot, kitContents[slot].clone());
         } else {
-            ItemStack glassPane = new ItemStack(Material.PURPLE_STAINED_GLASS_PANE);
-            ItemMeta meta = glassPane.getItemMeta();
-            meta.setDisplayName(ChatColor.AQUA + "Slot #" + (slot + 1));
-            meta.setLore(Arrays.asList(
-                ChatColor.GRAY + "Left-click to add an item",
-                ChatColor.GRAY + "Right-click to modify (if item present)",
-                ChatColor.YELLOW + "Shift-click to enter bulk mode",
-                ChatColor.GREEN + "💡 TIP: Use bulk mode for quick filling!"
-            ));
-            glassPane.setItemMeta(meta);
-            gui.setItem(slot, glassPane);
+            gui.setItem(slot, GUIIcons.slotPane(slot));
         }
     }
     
     private void updateArmorSlot(int armorIndex) {
-        String[] armorSlots = {"Boots", "Leggings", "Chestplate", "Helmet"};
         int guiSlot = 36 + armorIndex;
         
         if (kitArmor[armorIndex] != null) {
             gui.setItem(guiSlot, kitArmor[armorIndex].clone());
         } else {
-            ItemStack glassPane = new ItemStack(Material.GREEN_STAINED_GLASS_PANE);
-            ItemMeta meta = glassPane.getItemMeta();
-            meta.setDisplayName(ChatColor.AQUA + armorSlots[armorIndex] + " Slot");
-            meta.setLore(Arrays.asList(
-                ChatColor.GRAY + "Left-click to add " + armorSlots[armorIndex].toLowerCase(),
-                ChatColor.GRAY + "Right-click to modify (if armor present)"
-            ));
-            glassPane.setItemMeta(meta);
-            gui.setItem(guiSlot, glassPane);
+            gui.setItem(guiSlot, GUIIcons.armorPane(armorIndex));
         }
     }
     
@@ -129,46 +123,49 @@ public class KitEditorGUI implements Listener {
         if (offhandItem != null) {
             gui.setItem(40, offhandItem.clone());
         } else {
-            ItemStack offhandPane = new ItemStack(Material.ORANGE_STAINED_GLASS_PANE);
-            ItemMeta offhandMeta = offhandPane.getItemMeta();
-            offhandMeta.setDisplayName(ChatColor.AQUA + "Offhand Slot");
-            offhandMeta.setLore(Arrays.asList(
-                ChatColor.GRAY + "Left-click to add offhand item",
-                ChatColor.GRAY + "Right-click to modify (if item present)"
-            ));
-            offhandPane.setItemMeta(offhandMeta);
-            gui.setItem(40, offhandPane);
+            gui.setItem(40, GUIIcons.OFFHAND_PANE);
+        }
+    }
+    
+    private void renderSlot(int slot) {
+        if (slot < 36) {
+            updateSlot(slot);
+        } else if (slot < 40) {
+            updateArmorSlot(slot - 36);
+        } else if (slot == 40) {
+            updateOffhandSlot();
+        }
+    }
+    
+    /**
+     * Pushes only the slots that changed since the last paint. While a selector
+     * is open on top of the editor, changes are queued until the editor returns.
+     */
+    private void flushChanges() {
+        if (isNavigating) return;
+        
+        for (int slot = dirtySlots.nextSetBit(0); slot >= 0; slot = dirtySlots.nextSetBit(slot + 1)) {
+            renderSlot(slot);
+        }
+        dirtySlots.clear();
+        
+        if (controlsDirty) {
+            setupControlButtons();
+            controlsDirty = false;
         }
     }
     
     private void setupControlButtons() {
-        ItemStack saveButton = new ItemStack(Material.EMERALD);
-        ItemMeta saveMeta = saveButton.getItemMeta();
-        saveMeta.setDisplayName(ChatColor.GREEN + "Save Kit");
-        saveMeta.setLore(Arrays.asList(ChatColor.GRAY + "Click to save this kit"));
-        saveButton.setItemMeta(saveMeta);
-        gui.setItem(45, saveButton);
-        
-        ItemStack cancelButton = new ItemStack(Material.REDSTONE);
-        ItemMeta cancelMeta = cancelButton.getItemMeta();
-        cancelMeta.setDisplayName(ChatColor.RED + "Cancel");
-        cancelMeta.setLore(Arrays.asList(ChatColor.GRAY + "Click to cancel"));
-        cancelButton.setItemMeta(cancelMeta);
-        gui.setItem(53, cancelButton);
+        gui.setItem(45, GUIIcons.SAVE_KIT);
+        gui.setItem(53, GUIIcons.CANCEL_KIT);
         
         // Clear button
-        ItemStack clearButton = new ItemStack(Material.BARRIER);
-        ItemMeta clearMeta = clearButton.getItemMeta();
-        clearMeta.setDisplayName(ChatColor.YELLOW + "Clear All");
-        clearMeta.setLore(Arrays.asList(ChatColor.GRAY + "Click to clear all slots"));
-        clearButton.setItemMeta(clearMeta);
-        gui.setItem(49, clearButton);
+        gui.setItem(49, GUIIcons.CLEAR_KIT);
         
         // ENHANCED BULK MODE BUTTON - More prominent placement
-        ItemStack bulkButton = new ItemStack(isBulkMode ? Material.LIME_STAINED_GLASS_PANE : Material.YELLOW_STAINED_GLASS_PANE);
-        ItemMeta bulkMeta = bulkButton.getItemMeta();
-        
         if (isBulkMode) {
+            ItemStack bulkButton = new ItemStack(Material.LIME_STAINED_GLASS_PANE);
+            ItemMeta bulkMeta = bulkButton.getItemMeta();
             bulkMeta.setDisplayName(ChatColor.GREEN + "🔥 BULK MODE: ACTIVE");
             bulkMeta.setLore(Arrays.asList(
                 ChatColor.GRAY + "Item: " + (bulkItem != null ? bulkItem.getType().name() : "None"),
@@ -176,44 +173,28 @@ public class KitEditorGUI implements Listener {
                 ChatColor.RED + "Right-click here to exit bulk mode",
                 ChatColor.GOLD + "💡 Left-click to change bulk item"
             ));
+            bulkButton.setItemMeta(bulkMeta);
+            gui.setItem(47, bulkButton);
         } else {
-            bulkMeta.setDisplayName(ChatColor.YELLOW + "🔥 ACTIVATE BULK MODE");
-            bulkMeta.setLore(Arrays.asList(
-                ChatColor.GRAY + "Quick-fill multiple slots with the same item",
-                ChatColor.GREEN + "Click to select an item for bulk placement",
-                ChatColor.AQUA + "Or shift-click any slot with an item",
-                ChatColor.GOLD + "💡 Great for arrows, blocks, food, etc!"
-            ));
+            gui.setItem(47, GUIIcons.BULK_MODE_INACTIVE);
         }
         
-        bulkButton.setItemMeta(bulkMeta);
-        gui.setItem(47, bulkButton); // More prominent position
-        
-        // Add bulk mode helper button
-        if (!isBulkMode) {
-            ItemStack helperButton = new ItemStack(Material.BOOK);
-            ItemMeta helperMeta = helperButton.getItemMeta();
-            helperMeta.setDisplayName(ChatColor.AQUA + "📖 Bulk Mode Help");
-            helperMeta.setLore(Arrays.asList(
-                ChatColor.GRAY + "Bulk mode allows you to quickly fill",
-                ChatColor.GRAY + "multiple slots with the same item.",
-                ChatColor.YELLOW + "Ways to activate:",
-                ChatColor.WHITE + "• Click the yellow bulk button",
-                ChatColor.WHITE + "• Shift-click any slot with an item",
-                ChatColor.GREEN + "Perfect for: arrows, food, blocks!"
-            ));
-            helperButton.setItemMeta(helperMeta);
-            gui.setItem(46, helperButton);
-        }
+        // Add bulk mode helper button, the slot is empty in bulk mode
+        gui.setItem(46, isBulkMode ? null : GUIIcons.BULK_MODE_HELP);
+    }
+    
+    @Override
+    public Inventory getInventory() {
+        return gui;
     }
     
     public void open() {
-        plugin.getLogger().info("[DEBUG] Opening KitEditorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening KitEditorGUI for " + player.getName());
         
         // Clean up any existing GUI for this player
         KitEditorGUI existing = activeGuis.get(player.getUniqueId());
         if (existing != null && existing != this) {
-            plugin.getLogger().info("[DEBUG] Cleaning up existing GUI for " + player.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Cleaning up existing GUI for " + player.getName());
             existing.forceCleanup();
         }
         
@@ -223,21 +204,20 @@ public class KitEditorGUI implements Listener {
         player.openInventory(gui);
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onInventoryClick(InventoryClickEvent event) {
+    @Override
+    public void handleClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
         Player clicker = (Player) event.getWhoClicked();
         
-        // CRITICAL: Only handle events for our specific player and GUI
+        // CRITICAL: Only handle events for our specific player
         if (!clicker.getUniqueId().equals(player.getUniqueId())) return;
-        if (!event.getInventory().equals(gui)) return;
         if (!isActive || isNavigating) return;
         
         event.setCancelled(true);
         int slot = event.getSlot();
         ClickType clickType = event.getClick();
         
-        plugin.getLogger().info("[DEBUG] KitEditorGUI click event - Player: " + player.getName() + ", Slot: " + slot + ", ClickType: " + clickType + ", Active: " + isActive + ", BulkMode: " + isBulkMode);
+        plugin.getDebugLogger().trace(Subsystem.GUI, () -> "KitEditorGUI click event - Player: " + player.getName() + ", Slot: " + slot + ", ClickType: " + clickType + ", Active: " + isActive + ", BulkMode: " + isBulkMode);
         
         // Handle enhanced bulk mode button
         if (slot == 47) {
@@ -259,19 +239,19 @@ public class KitEditorGUI implements Listener {
         
         // Handle control buttons
         if (slot == 45) { // Save button
-            plugin.getLogger().info("[DEBUG] Save button clicked by " + player.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Save button clicked by " + player.getName());
             saveKit();
             return;
         }
         
         if (slot == 53) { // Cancel button
-            plugin.getLogger().info("[DEBUG] Cancel button clicked by " + player.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Cancel button clicked by " + player.getName());
             forceCleanup();
             return;
         }
         
         if (slot == 49) { // Clear button
-            plugin.getLogger().info("[DEBUG] Clear button clicked by " + player.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Clear button clicked by " + player.getName());
             clearAllSlots();
             return;
         }
@@ -307,14 +287,14 @@ public class KitEditorGUI implements Listener {
                 // Right-click: open item modification menu if item exists
                 ItemStack currentItem = getCurrentItemInSlot(slot);
                 if (currentItem != null && !isPlaceholderItem(currentItem)) {
-                    plugin.getLogger().info("[DEBUG] Right-click on slot " + slot + " with item " + currentItem.getType());
+                    plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Right-click on slot " + slot + " with item " + currentItem.getType());
                     openItemModificationMenu(slot, currentItem);
                     return;
                 }
             }
             
             // Left-click or right-click on empty slot: open appropriate selector
-            plugin.getLogger().info("[DEBUG] Slot " + slot + " clicked by " + player.getName() + " - opening selector");
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Slot " + slot + " clicked by " + player.getName() + " - opening selector");
             
             // Determine what type of selector to open based on slot
             if (slot >= 36 && slot <= 39) {
@@ -330,7 +310,8 @@ public class KitEditorGUI implements Listener {
     private void enterBulkMode(ItemStack item) {
         isBulkMode = true;
         bulkItem = item.clone();
-        setupControlButtons(); // Refresh to show bulk indicator
+        controlsDirty = true;
+        flushChanges(); // Refresh to show bulk indicator
         player.sendMessage(ChatColor.GREEN + "🔥 Bulk mode activated! Click slots to place " + item.getType().name());
         player.sendMessage(ChatColor.YELLOW + "Right-click the green button to exit bulk mode");
         player.sendMessage(ChatColor.AQUA + "Left-click the green button to change bulk item");
@@ -339,45 +320,46 @@ public class KitEditorGUI implements Listener {
     private void exitBulkMode() {
         isBulkMode = false;
         bulkItem = null;
-        setupControlButtons(); // Refresh to hide bulk indicator
+        controlsDirty = true;
+        flushChanges(); // Refresh to hide bulk indicator
         player.sendMessage(ChatColor.YELLOW + "🔥 Bulk mode deactivated");
     }
     
     private void openCategorySelectorForBulk(int slot) {
-        plugin.getLogger().info("[DEBUG] Opening category selector for bulk mode");
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening category selector for bulk mode");
         
         // Set navigation state to prevent cleanup
         isNavigating = true;
         
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            new BulkCategorySelectorGUI(plugin, player, this, slot).open();
+            plugin.getGuiManager().getSession(player).bulkCategorySelector(this, slot).open();
         }, 1L);
     }
     
     private void openCategorySelector(int slot) {
-        plugin.getLogger().info("[DEBUG] Opening category selector for slot " + slot);
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening category selector for slot " + slot);
         
         // Set navigation state to prevent cleanup
         isNavigating = true;
         
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            new CategorySelectorGUI(plugin, player, this, slot).open();
+            plugin.getGuiManager().getSession(player).categorySelector(this, slot).open();
         }, 1L);
     }
     
     private void openArmorSelector(int slot) {
-        plugin.getLogger().info("[DEBUG] Opening armor selector for slot " + slot);
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening armor selector for slot " + slot);
         
         // Set navigation state to prevent cleanup
         isNavigating = true;
         
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            new ArmorSelectorGUI(plugin, player, this, slot).open();
+            plugin.getGuiManager().getSession(player).armorSelector(this, slot).open();
         }, 1L);
     }
     
     private void openItemModificationMenu(int slot, ItemStack item) {
-        plugin.getLogger().info("[DEBUG] Opening item modification menu for slot " + slot);
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening item modification menu for slot " + slot);
         
         // Set navigation state to prevent cleanup
         isNavigating = true;
@@ -406,19 +388,19 @@ public class KitEditorGUI implements Listener {
                type == Material.ORANGE_STAINED_GLASS_PANE;
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onInventoryClose(InventoryCloseEvent event) {
+    @Override
+    public void handleClose(InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player)) return;
         Player closer = (Player) event.getPlayer();
         
-        if (closer.getUniqueId().equals(player.getUniqueId()) && event.getInventory().equals(gui)) {
-            plugin.getLogger().info("[DEBUG] KitEditorGUI inventory closed by " + player.getName() + ", Active: " + isActive + ", Navigating: " + isNavigating);
+        if (closer.getUniqueId().equals(player.getUniqueId())) {
+            plugin.getDebugLogger().trace(Subsystem.GUI, () -> "KitEditorGUI inventory closed by " + player.getName() + ", Active: " + isActive + ", Navigating: " + isNavigating);
             
             // Only cleanup if this is a final close (not navigation)
             if (isActive && !isNavigating) {
                 plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                     if (isActive && !isNavigating) {
-                        plugin.getLogger().info("[DEBUG] Final cleanup for " + player.getName());
+                        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Final cleanup for " + player.getName());
                         forceCleanup();
                     }
                 }, 5L);
@@ -427,55 +409,50 @@ public class KitEditorGUI implements Listener {
     }
     
     private void forceCleanup() {
-        plugin.getLogger().info("[DEBUG] Force cleanup for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Force cleanup for " + player.getName());
         isActive = false;
         isBulkMode = false;
         bulkItem = null;
         isNavigating = false;
         activeGuis.remove(player.getUniqueId());
-        InventoryClickEvent.getHandlerList().unregister(this);
-        InventoryCloseEvent.getHandlerList().unregister(this);
+        plugin.getGuiManager().unregisterGUI(this);
         player.closeInventory();
     }
     
     public void setSlotItem(int slot, ItemStack item) {
-        plugin.getLogger().info("[DEBUG] Setting slot " + slot + " to item " + (item != null ? item.getType() : "null") + " for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Setting slot " + slot + " to item " + (item != null ? item.getType() : "null") + " for " + player.getName());
         
         if (slot < 36) {
             kitContents[slot] = item;
-            updateSlot(slot);
         } else if (slot < 40) {
             kitArmor[slot - 36] = item;
-            updateArmorSlot(slot - 36);
         } else if (slot == 40) {
             offhandItem = item;
-            updateOffhandSlot();
+        } else {
+            return;
         }
+        
+        dirtySlots.set(slot);
+        flushChanges();
     }
     
     public void clearSlot(int slot) {
-        plugin.getLogger().info("[DEBUG] Clearing slot " + slot + " for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Clearing slot " + slot + " for " + player.getName());
         setSlotItem(slot, null);
     }
     
     private void clearAllSlots() {
-        plugin.getLogger().info("[DEBUG] Clearing all slots for " + player.getName());
-        for (int i = 0; i < 36; i++) {
-            kitContents[i] = null;
-            updateSlot(i);
-        }
-        for (int i = 0; i < 4; i++) {
-            kitArmor[i] = null;
-            updateArmorSlot(i);
-        }
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Clearing all slots for " + player.getName());
+        Arrays.fill(kitContents, null);
+        Arrays.fill(kitArmor, null);
         offhandItem = null;
-        updateOffhandSlot();
+        dirtySlots.set(0, 41);
         exitBulkMode(); // Exit bulk mode when clearing
         player.sendMessage(ChatColor.YELLOW + "All slots cleared!");
     }
     
     private void saveKit() {
-        plugin.getLogger().info("[DEBUG] Saving kit " + kitName + " for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Saving kit " + kitName + " for " + player.getName());
         
         // Create extended contents array to include offhand
         ItemStack[] extendedContents = new ItemStack[37];
@@ -483,23 +460,33 @@ public class KitEditorGUI implements Listener {
         extendedContents[36] = offhandItem;
         
         Kit kit = new Kit(kitName, kitName, extendedContents, kitArmor.clone());
-        plugin.getKitManager().saveKit(player.getUniqueId(), kit);
+        List<String> problems;
+        try {
+            problems = plugin.getKitManager().saveKit(player.getUniqueId(), kit);
+        } catch (IOException e) {
+            // Keep the menu open so the changes aren't lost
+            player.sendMessage(ChatColor.RED + e.getMessage());
+            return;
+        }
         
         player.sendMessage(ChatColor.GREEN + "Kit '" + kitName + "' saved successfully!");
+        for (String problem : problems) {
+            player.sendMessage(ChatColor.YELLOW + problem);
+        }
         forceCleanup();
     }
     
     public void refreshAndReopen() {
-        plugin.getLogger().info("[DEBUG] Refreshing and reopening GUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Refreshing and reopening GUI for " + player.getName());
         
         // Reset navigation state
         isNavigating = false;
         
-        // Refresh the GUI content
-        setupGUI();
+        // Repaint only what changed while the selector was open
+        flushChanges();
         
         // If the player doesn't have this inventory open, open it
-        if (!player.getOpenInventory().getTopInventory().equals(gui)) {
+        if (player.getOpenInventory().getTopInventory().getHolder() != this) {
             player.openInventory(gui);
         }
     }
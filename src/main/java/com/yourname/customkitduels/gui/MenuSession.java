@@ -0,0 +1,95 @@
+package com.yourname.customkitduels.gui;
+
+import com.yourname.customkitduels.CustomKitDuels;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps one player's kit editor selector menus alive between navigations so
+ * moving back and forth reuses the same GUI objects and inventories.
+ *
+ * Inventory titles are fixed once created, so menus whose title depends on a
+ * category or armor slot are pooled per category or slot.
+ */
+public class MenuSession {
+
+    private final CustomKitDuels plugin;
+    private final Player player;
+    private CategorySelectorGUI categorySelector;
+    private BulkCategorySelectorGUI bulkCategorySelector;
+    private final Map<String, ItemSelectorGUI> itemSelectors = new HashMap<>();
+    private final Map<String, BulkItemSelectorGUI> bulkItemSelectors = new HashMap<>();
+    private final ArmorSelectorGUI[] armorSelectors = new ArmorSelectorGUI[4];
+    private long lastUsed;
+
+    public MenuSession(CustomKitDuels plugin, Player player) {
+        this.plugin = plugin;
+        this.player = player;
+        this.lastUsed = System.currentTimeMillis();
+    }
+
+    public CategorySelectorGUI categorySelector(KitEditorGUI parentGUI, int targetSlot) {
+        if (categorySelector == null) {
+            categorySelector = new CategorySelectorGUI(plugin, player, parentGUI, targetSlot);
+        } else {
+            categorySelector.reset(parentGUI, targetSlot);
+        }
+        return categorySelector;
+    }
+
+    public BulkCategorySelectorGUI bulkCategorySelector(KitEditorGUI parentGUI, int targetSlot) {
+        if (bulkCategorySelector == null) {
+            bulkCategorySelector = new BulkCategorySelectorGUI(plugin, player, parentGUI, targetSlot);
+        } else {
+            bulkCategorySelector.reset(parentGUI, targetSlot);
+        }
+        return bulkCategorySelector;
+    }
+
+    public ItemSelectorGUI itemSelector(KitEditorGUI parentGUI, int targetSlot, String category) {
+        ItemSelectorGUI selector = itemSelectors.get(category);
+        if (selector == null) {
+            selector = new ItemSelectorGUI(plugin, player, parentGUI, targetSlot, category);
+            itemSelectors.put(category, selector);
+        } else {
+            selector.reset(parentGUI, targetSlot);
+        }
+        return selector;
+    }
+
+    public BulkItemSelectorGUI bulkItemSelector(KitEditorGUI parentGUI, int targetSlot, String category) {
+        BulkItemSelectorGUI selector = bulkItemSelectors.get(category);
+        if (selector == null) {
+            selector = new BulkItemSelectorGUI(plugin, player, parentGUI, targetSlot, category);
+            bulkItemSelectors.put(category, selector);
+        } else {
+            selector.reset(parentGUI, targetSlot);
+        }
+        return selector;
+    }
+
+    /**
+     * @param targetSlot editor armor slot, 36 (boots) to 39 (helmet)
+     */
+    public ArmorSelectorGUI armorSelector(KitEditorGUI parentGUI, int targetSlot) {
+        int index = targetSlot - 36;
+        ArmorSelectorGUI selector = armorSelectors[index];
+        if (selector == null) {
+            selector = new ArmorSelectorGUI(plugin, player, parentGUI, targetSlot);
+            armorSelectors[index] = selector;
+        } else {
+            selector.reset(parentGUI);
+        }
+        return selector;
+    }
+
+    public void touch() {
+        lastUsed = System.currentTimeMillis();
+    }
+
+    public long getLastUsed() {
+        return lastUsed;
+    }
+}
@@ -1,25 +1,22 @@
 package com.yourname.customkitduels.gui;
 
 import com.yourname.customkitduels.CustomKitDuels;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
+import com.yourname.customkitduels.utils.DisplayNames;
+import com.yourname.customkitduels.utils.PotionCatalog;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.PotionMeta;
-import org.bukkit.potion.PotionData;
 import org.bukkit.potion.PotionType;
 
 import java.util.*;
 
-public class PotionSelectorGUI implements Listener {
+public class PotionSelectorGUI implements GUI {
     
     private final CustomKitDuels plugin;
     private final Player player;
@@ -35,43 +32,12 @@ public class PotionSelectorGUI implements Listener {
         this.player = player;
         this.parentGUI = parentGUI;
         this.targetItem = targetItem.clone();
-        this.availablePotions = getAvailablePotionTypes();
-        this.gui = Bukkit.createInventory(null, 54, ChatColor.DARK_PURPLE + "Select Potion Type");
+        this.availablePotions = PotionCatalog.getMenuTypes();
+        this.gui = Bukkit.createInventory(this, 54, ChatColor.DARK_PURPLE + "Select Potion Type");
         
-        plugin.getLogger().info("[DEBUG] Creating PotionSelectorGUI for player " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Creating PotionSelectorGUI for player " + player.getName());
         
         setupGUI();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
-    }
-    
-    private List<PotionType> getAvailablePotionTypes() {
-        List<PotionType> potions = new ArrayList<>();
-        
-        // Add common potion types using correct 1.21.4 enum names
-        potions.addAll(Arrays.asList(
-            PotionType.WATER,
-            PotionType.MUNDANE,
-            PotionType.THICK,
-            PotionType.AWKWARD,
-            PotionType.NIGHT_VISION,
-            PotionType.INVISIBILITY,
-            PotionType.LEAPING,           // Changed from JUMP
-            PotionType.FIRE_RESISTANCE,
-            PotionType.SWIFTNESS,         // Changed from SPEED
-            PotionType.SLOWNESS,
-            PotionType.WATER_BREATHING,
-            PotionType.HEALING,           // Changed from INSTANT_HEAL
-            PotionType.HARMING,           // Changed from INSTANT_DAMAGE
-            PotionType.POISON,
-            PotionType.REGENERATION,      // Changed from REGEN
-            PotionType.STRENGTH,
-            PotionType.WEAKNESS,
-            PotionType.LUCK,
-            PotionType.TURTLE_MASTER,
-            PotionType.SLOW_FALLING
-        ));
-        
-        return potions;
     }
     
     private void setupGUI() {
@@ -82,76 +48,31 @@ public class PotionSelectorGUI implements Listener {
         
         // Add potion options
         int slot = 9;
-        for (PotionType potionType : availablePotions) {
+        for (int i = 0; i < availablePotions.size(); i++) {
             if (slot >= 44) break; // Don't overflow into control area
             
-            ItemStack potionItem = new ItemStack(targetItem.getType());
-            PotionMeta meta = (PotionMeta) potionItem.getItemMeta();
-            
-            if (meta != null) {
-                // Set the potion data
-                PotionData potionData = new PotionData(potionType, false, false);
-                meta.setBasePotionData(potionData);
-                
-                String potionName = formatPotionName(potionType.name());
-                meta.setDisplayName(ChatColor.LIGHT_PURPLE + potionName);
-                
-                List<String> lore = new ArrayList<>();
-                lore.add(ChatColor.GRAY + "Click to select this potion type");
-                
-                // Only show extended/upgraded options if available
-                if (potionType.isExtendable()) {
-                    lore.add(ChatColor.YELLOW + "Right-click for extended duration");
-                }
-                if (potionType.isUpgradeable()) {
-                    lore.add(ChatColor.YELLOW + "Shift-click for upgraded effect");
-                }
-                
-                meta.setLore(lore);
-                potionItem.setItemMeta(meta);
-            }
-            
-            gui.setItem(slot, potionItem);
+            gui.setItem(slot, PotionCatalog.getIcon(targetItem.getType(), i));
             slot++;
         }
         
         // Apply changes button
-        ItemStack applyButton = new ItemStack(Material.EMERALD);
-        ItemMeta applyMeta = applyButton.getItemMeta();
-        applyMeta.setDisplayName(ChatColor.GREEN + "Apply Changes");
-        applyMeta.setLore(Arrays.asList(ChatColor.GRAY + "Click to apply potion type"));
-        applyButton.setItemMeta(applyMeta);
-        gui.setItem(49, applyButton);
+        gui.setItem(49, GUIIcons.APPLY_POTION);
         
         // Back button
-        ItemStack backButton = new ItemStack(Material.RED_STAINED_GLASS_PANE);
-        ItemMeta backMeta = backButton.getItemMeta();
-        backMeta.setDisplayName(ChatColor.RED + "Back");
-        backMeta.setLore(Arrays.asList(ChatColor.GRAY + "Return without saving"));
-        backButton.setItemMeta(backMeta);
-        gui.setItem(53, backButton);
+        gui.setItem(53, GUIIcons.BACK_WITHOUT_SAVING);
     }
     
-    private String formatPotionName(String potionName) {
-        String[] words = potionName.toLowerCase().split("_");
-        StringBuilder formatted = new StringBuilder();
-        
-        for (String word : words) {
-            if (formatted.length() > 0) {
-                formatted.append(" ");
-            }
-            formatted.append(word.substring(0, 1).toUpperCase()).append(word.substring(1));
-        }
-        
-        return formatted.toString();
+    @Override
+    public Inventory getInventory() {
+        return gui;
     }
     
     public void open() {
-        plugin.getLogger().info("[DEBUG] Opening PotionSelectorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening PotionSelectorGUI for " + player.getName());
         
         PotionSelectorGUI existing = activeGuis.get(player.getUniqueId());
         if (existing != null && existing != this) {
-            plugin.getLogger().info("[DEBUG] Cleaning up existing PotionSelectorGUI for " + player.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Cleaning up existing PotionSelectorGUI for " + player.getName());
             existing.forceCleanup();
         }
         
@@ -160,12 +81,12 @@ public class PotionSelectorGUI implements Listener {
         player.openInventory(gui);
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onInventoryClick(InventoryClickEvent event) {
+    @Override
+    public void handleClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
         Player clicker = (Player) event.getWhoClicked();
         
-        if (!clicker.getUniqueId().equals(player.getUniqueId()) || !event.getInventory().equals(gui) || !isActive) {
+        if (!clicker.getUniqueId().equals(player.getUniqueId()) || !isActive) {
             return;
         }
         
@@ -201,11 +122,13 @@ public class PotionSelectorGUI implements Listener {
         boolean upgraded = event.isShiftClick();
         
         // Some potions can't be extended or upgraded
-        if (extended && !potionType.isExtendable()) {
+        PotionType extendedType = PotionCatalog.getExtended(potionType);
+        PotionType upgradedType = PotionCatalog.getUpgraded(potionType);
+        if (extended && extendedType == null) {
             extended = false;
             player.sendMessage(ChatColor.RED + "This potion type cannot be extended!");
         }
-        if (upgraded && !potionType.isUpgradeable()) {
+        if (upgraded && upgradedType == null) {
             upgraded = false;
             player.sendMessage(ChatColor.RED + "This potion type cannot be upgraded!");
         }
@@ -216,11 +139,10 @@ public class PotionSelectorGUI implements Listener {
             player.sendMessage(ChatColor.YELLOW + "Cannot have both extended and upgraded - using extended version.");
         }
         
-        PotionData potionData = new PotionData(potionType, extended, upgraded);
-        meta.setBasePotionData(potionData);
+        meta.setBasePotionType(extended ? extendedType : upgraded ? upgradedType : potionType);
         targetItem.setItemMeta(meta);
         
-        String potionName = formatPotionName(potionType.name());
+        String potionName = DisplayNames.potion(potionType);
         String modifiers = "";
         if (extended) modifiers += " (Extended)";
         if (upgraded) modifiers += " (Upgraded)";
@@ -232,14 +154,14 @@ public class PotionSelectorGUI implements Listener {
     }
     
     private void applyChanges() {
-        plugin.getLogger().info("[DEBUG] Applying potion changes for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Applying potion changes for " + player.getName());
         parentGUI.updateItem(targetItem);
         player.sendMessage(ChatColor.GREEN + "Potion type applied!");
         returnToParent();
     }
     
     private void returnToParent() {
-        plugin.getLogger().info("[DEBUG] Returning to parent GUI for player " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Returning to parent GUI for player " + player.getName());
         isActive = false;
         forceCleanup();
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
@@ -248,26 +170,25 @@ public class PotionSelectorGUI implements Listener {
     }
     
     private void forceCleanup() {
-        plugin.getLogger().info("[DEBUG] Force cleanup PotionSelectorGUI for " + player.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Force cleanup PotionSelectorGUI for " + player.getName());
         isActive = false;
         activeGuis.remove(player.getUniqueId());
-        InventoryClickEvent.getHandlerList().unregister(this);
-        InventoryCloseEvent.getHandlerList().unregister(this);
+        plugin.getGuiManager().unregisterGUI(this);
         player.closeInventory();
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onInventoryClose(InventoryCloseEvent event) {
+    @Override
+    public void handleClose(InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player)) return;
         Player closer = (Player) event.getPlayer();
         
-        if (closer.getUniqueId().equals(player.getUniqueId()) && event.getInventory().equals(gui)) {
-            plugin.getLogger().info("[DEBUG] PotionSelectorGUI inventory closed by " + player.getName() + ", Active: " + isActive);
+        if (closer.getUniqueId().equals(player.getUniqueId())) {
+            plugin.getDebugLogger().trace(Subsystem.GUI, () -> "PotionSelectorGUI inventory closed by " + player.getName() + ", Active: " + isActive);
             
             if (isActive) {
                 plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                     if (isActive && activeGuis.containsKey(player.getUniqueId())) {
-                        plugin.getLogger().info("[DEBUG] Final cleanup PotionSelectorGUI for " + player.getName());
+                        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Final cleanup PotionSelectorGUI for " + player.getName());
                         forceCleanup();
                         parentGUI.refreshAndReopen();
                     }
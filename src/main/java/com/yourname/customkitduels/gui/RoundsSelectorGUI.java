@@ -2,13 +2,11 @@ package com.yourname.customkitduels.gui;
 
 import com.yourname.customkitduels.CustomKitDuels;
 import com.yourname.customkitduels.data.Kit;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
@@ -20,7 +18,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
-public class RoundsSelectorGUI implements Listener {
+public class RoundsSelectorGUI implements GUI {
     
     private final CustomKitDuels plugin;
     private final Player challenger;
@@ -35,12 +33,11 @@ public class RoundsSelectorGUI implements Listener {
         this.challenger = challenger;
         this.target = target;
         this.kit = kit;
-        this.gui = Bukkit.createInventory(null, 27, ChatColor.GOLD + "Select Rounds to Win");
+        this.gui = Bukkit.createInventory(this, 27, ChatColor.GOLD + "Select Rounds to Win");
         
-        plugin.getLogger().info("[DEBUG] Creating RoundsSelectorGUI for challenger " + challenger.getName() + " vs " + target.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Creating RoundsSelectorGUI for challenger " + challenger.getName() + " vs " + target.getName());
         
         setupGUI();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     private void setupGUI() {
@@ -82,12 +79,17 @@ public class RoundsSelectorGUI implements Listener {
         gui.setItem(22, cancelItem);
     }
     
+    @Override
+    public Inventory getInventory() {
+        return gui;
+    }
+    
     public void open() {
-        plugin.getLogger().info("[DEBUG] Opening RoundsSelectorGUI for " + challenger.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Opening RoundsSelectorGUI for " + challenger.getName());
         
         RoundsSelectorGUI existing = activeGuis.get(challenger.getUniqueId());
         if (existing != null && existing != this) {
-            plugin.getLogger().info("[DEBUG] Cleaning up existing RoundsSelectorGUI for " + challenger.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Cleaning up existing RoundsSelectorGUI for " + challenger.getName());
             existing.forceCleanup();
         }
         
@@ -96,22 +98,22 @@ public class RoundsSelectorGUI implements Listener {
         challenger.openInventory(gui);
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onInventoryClick(InventoryClickEvent event) {
+    @Override
+    public void handleClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
         Player clicker = (Player) event.getWhoClicked();
         
-        if (!clicker.equals(challenger) || !event.getInventory().equals(gui) || !isActive) {
+        if (!clicker.equals(challenger) || !isActive) {
             return;
         }
         
         event.setCancelled(true);
         int slot = event.getSlot();
         
-        plugin.getLogger().info("[DEBUG] RoundsSelectorGUI click event - Player: " + challenger.getName() + ", Slot: " + slot);
+        plugin.getDebugLogger().trace(Subsystem.GUI, () -> "RoundsSelectorGUI click event - Player: " + challenger.getName() + ", Slot: " + slot);
         
         if (slot == 22) { // Cancel
-            plugin.getLogger().info("[DEBUG] Duel cancelled by " + challenger.getName());
+            plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Duel cancelled by " + challenger.getName());
             challenger.sendMessage(ChatColor.RED + "Duel request cancelled.");
             forceCleanup();
             return;
@@ -122,7 +124,7 @@ public class RoundsSelectorGUI implements Listener {
         for (int i = 0; i < slots.length; i++) {
             if (slot == slots[i]) {
                 int targetRounds = i + 1;
-                plugin.getLogger().info("[DEBUG] Selected " + targetRounds + " rounds for duel");
+                plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Selected " + targetRounds + " rounds for duel");
                 
                 // Send duel request with rounds
                 plugin.getDuelManager().sendRoundsDuelRequest(challenger, target, kit, targetRounds);
@@ -133,25 +135,24 @@ public class RoundsSelectorGUI implements Listener {
     }
     
     private void forceCleanup() {
-        plugin.getLogger().info("[DEBUG] Force cleanup RoundsSelectorGUI for " + challenger.getName());
+        plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Force cleanup RoundsSelectorGUI for " + challenger.getName());
         isActive = false;
         activeGuis.remove(challenger.getUniqueId());
-        InventoryClickEvent.getHandlerList().unregister(this);
-        InventoryCloseEvent.getHandlerList().unregister(this);
+        plugin.getGuiManager().unregisterGUI(this);
         challenger.closeInventory();
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onInventoryClose(InventoryCloseEvent event) {
+    @Override
+    public void handleClose(InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player)) return;
         Player closer = (Player) event.getPlayer();
         
-        if (closer.equals(challenger) && event.getInventory().equals(gui)) {
-            plugin.getLogger().info("[DEBUG] RoundsSelectorGUI inventory closed by " + challenger.getName() + ", Active: " + isActive);
+        if (closer.equals(challenger)) {
+            plugin.getDebugLogger().trace(Subsystem.GUI, () -> "RoundsSelectorGUI inventory closed by " + challenger.getName() + ", Active: " + isActive);
             
             plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                 if (isActive && activeGuis.containsKey(challenger.getUniqueId())) {
-                    plugin.getLogger().info("[DEBUG] Final cleanup RoundsSelectorGUI for " + challenger.getName());
+                    plugin.getDebugLogger().debug(Subsystem.GUI, () -> "Final cleanup RoundsSelectorGUI for " + challenger.getName());
                     forceCleanup();
                 }
             }, 3L);
@@ -0,0 +1,190 @@
+package com.yourname.customkitduels.listeners;
+
+import com.yourname.customkitduels.managers.ArenaChangeTracker;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.Openable;
+import org.bukkit.block.data.Powerable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockGrowEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockMultiPlaceEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.BlockSpreadEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.block.TNTPrimeEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+
+import java.util.List;
+
+/**
+ * Passes every block change that goes through to the arena change tracker,
+ * before the block is changed where the event allows it.
+ */
+public class ArenaListener implements Listener {
+    
+    private final ArenaChangeTracker tracker;
+    
+    public ArenaListener(ArenaChangeTracker tracker) {
+        this.tracker = tracker;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        // The block is already placed, the replaced state holds what was there
+        if (event instanceof BlockMultiPlaceEvent) {
+            for (BlockState state : ((BlockMultiPlaceEvent) event).getReplacedBlockStates()) {
+                tracker.record(state);
+            }
+        } else {
+            tracker.record(event.getBlockReplacedState());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        tracker.record(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        recordAll(event.blockList());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        recordAll(event.blockList());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFluidFlow(BlockFromToEvent event) {
+        tracker.record(event.getToBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent event) {
+        tracker.record(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent event) {
+        tracker.record(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        tracker.record(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockIgnite(BlockIgniteEvent event) {
+        tracker.record(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        tracker.record(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        tracker.record(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockSpread(BlockSpreadEvent event) {
+        tracker.record(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecay(LeavesDecayEvent event) {
+        tracker.record(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        // Falling blocks, endermen, trampled farmland and the like
+        tracker.record(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockGrow(BlockGrowEvent event) {
+        tracker.record(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTntPrime(TNTPrimeEvent event) {
+        // The block turns into a primed TNT entity
+        tracker.record(event.getBlock());
+    }
+    
+    // Not ignoreCancelled, clicks on air arrive cancelled. Only whether the block is used matters
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInteract(PlayerInteractEvent event) {
+        if (event.getAction() != Action.RIGHT_CLICK_BLOCK && event.getAction() != Action.PHYSICAL) return;
+        if (event.useInteractedBlock() == Event.Result.DENY) return;
+        
+        Block block = event.getClickedBlock();
+        if (block == null) return;
+        
+        BlockData data = block.getBlockData();
+        if (data instanceof Openable) {
+            // Doors, trapdoors and fence gates, doors change both halves
+            tracker.record(block);
+            tracker.record(block.getRelative(BlockFace.UP));
+            tracker.record(block.getRelative(BlockFace.DOWN));
+        } else if (data instanceof Powerable) {
+            // Levers, buttons and pressure plates may switch redstone anywhere in the arena
+            tracker.recordUnrevertable(block);
+        } else {
+            // Farmland, cake, note blocks, composters and the like
+            tracker.record(block);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        recordPiston(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        recordPiston(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+    
+    private void recordAll(List<Block> blocks) {
+        for (Block block : blocks) {
+            tracker.record(block);
+        }
+    }
+    
+    // Moved blocks leave their position and fill the next one, the piston head moves too.
+    // Recording a block that ends up unchanged only costs a comparison on restore
+    private void recordPiston(Block piston, List<Block> moved, BlockFace direction) {
+        tracker.record(piston.getRelative(direction));
+        tracker.record(piston.getRelative(direction.getOppositeFace()));
+        for (Block block : moved) {
+            tracker.record(block);
+            tracker.record(block.getRelative(direction));
+            tracker.record(block.getRelative(direction.getOppositeFace()));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.yourname.customkitduels.managers;
+
+import com.yourname.customkitduels.data.Arena;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.TileState;
+import org.bukkit.block.data.BlockData;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the original state of every block changed inside arenas that are
+ * in use, so an arena can be restored by reverting just those blocks. Once an
+ * arena has more changes than the limit (settings.regeneration-max-changes),
+ * only the fact that it overflowed is kept and the whole schematic is pasted.
+ * The same goes for changed block entities like chests and signs, block data
+ * alone can't bring back their contents.
+ *
+ * Reverting only gets back to the arena's saved blocks if the arena matched
+ * them when tracking started. Unless the arena is known to match, because it
+ * was restored after its last duel, the first restore pastes everything.
+ *
+ * Only used on the main thread.
+ */
+public class ArenaChangeTracker {
+
+    private final int maxChanges;
+    private final Map<String, TrackedArena> tracked = new HashMap<>();
+    // Arenas that match their saved blocks and haven't been tracked since
+    private final Set<String> restored = new HashSet<>();
+
+    ArenaChangeTracker(int maxChanges) {
+        this.maxChanges = Math.max(0, maxChanges);
+    }
+
+    private static final class TrackedArena {
+
+        private final UUID worldId;
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int maxX;
+        private final int maxY;
+        private final int maxZ;
+        // Original block at each changed position, in the order they changed
+        private final Map<Long, BlockData> originals = new LinkedHashMap<>();
+        private boolean overflowed;
+        private int users;
+
+        TrackedArena(Location pos1, Location pos2) {
+            this.worldId = pos1.getWorld().getUID();
+            this.minX = Math.min(pos1.getBlockX(), pos2.getBlockX());
+            this.minY = Math.min(pos1.getBlockY(), pos2.getBlockY());
+            this.minZ = Math.min(pos1.getBlockZ(), pos2.getBlockZ());
+            this.maxX = Math.max(pos1.getBlockX(), pos2.getBlockX());
+            this.maxY = Math.max(pos1.getBlockY(), pos2.getBlockY());
+            this.maxZ = Math.max(pos1.getBlockZ(), pos2.getBlockZ());
+        }
+
+        boolean contains(UUID world, int x, int y, int z) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ && worldId.equals(world);
+        }
+    }
+
+    /**
+     * Starts recording changes in the arena. Each call must be matched by a
+     * call to {@link #stopTracking}, an arena used by several duels keeps its
+     * changes until the last one stops.
+     */
+    public void startTracking(Arena arena) {
+        if (arena.getPos1() == null || arena.getPos2() == null || arena.getPos1().getWorld() == null) return;
+
+        TrackedArena entry = tracked.get(arena.getName());
+        if (entry == null) {
+            entry = new TrackedArena(arena.getPos1(), arena.getPos2());
+            // Changes from before now weren't recorded, only a full paste undoes them
+            entry.overflowed = !restored.remove(arena.getName());
+            tracked.put(arena.getName(), entry);
+        }
+        entry.users++;
+    }
+
+    public void stopTracking(Arena arena) {
+        TrackedArena entry = tracked.get(arena.getName());
+        if (entry != null && --entry.users <= 0) {
+            tracked.remove(arena.getName());
+        }
+    }
+
+    public boolean isTracking(Arena arena) {
+        return tracked.containsKey(arena.getName());
+    }
+
+    /**
+     * Notes that the arena's blocks now match its saved blocks, so the next
+     * duel's first restore can revert just its changes. Only for arenas that
+     * aren't tracked, as changes made meanwhile would be missed.
+     */
+    public void markRestored(Arena arena) {
+        if (!tracked.containsKey(arena.getName())) {
+            restored.add(arena.getName());
+        }
+    }
+
+    /**
+     * Forgets that the arena matches its saved blocks, for when its region or
+     * saved blocks change.
+     */
+    public void forgetRestored(Arena arena) {
+        restored.remove(arena.getName());
+    }
+
+    /**
+     * Records a block that is about to change.
+     */
+    public void record(Block block) {
+        if (tracked.isEmpty()) return;
+        record(block.getWorld(), block.getX(), block.getY(), block.getZ(), block::getBlockData, () -> block.getState() instanceof TileState);
+    }
+
+    /**
+     * Records a block that has already changed, from its earlier state.
+     */
+    public void record(BlockState previous) {
+        if (tracked.isEmpty()) return;
+        record(previous.getLocation().getWorld(), previous.getX(), previous.getY(), previous.getZ(), previous::getBlockData, () -> previous instanceof TileState);
+    }
+
+    /**
+     * Notes a change whose effects can't be recorded block by block, like
+     * switching redstone with a lever. The arenas holding the block get the
+     * whole schematic pasted on their next restore.
+     */
+    public void recordUnrevertable(Block block) {
+        if (tracked.isEmpty() || block.getWorld() == null) return;
+
+        UUID worldId = block.getWorld().getUID();
+        for (TrackedArena entry : tracked.values()) {
+            if (entry.contains(worldId, block.getX(), block.getY(), block.getZ())) {
+                entry.overflowed = true;
+                entry.originals.clear();
+            }
+        }
+    }
+
+    // The data is only read for positions inside a tracked arena that weren't recorded yet
+    private void record(World world, int x, int y, int z, Supplier<BlockData> original, BooleanSupplier blockEntity) {
+        if (world == null) return;
+
+        UUID worldId = world.getUID();
+        for (TrackedArena entry : tracked.values()) {
+            if (entry.overflowed || !entry.contains(worldId, x, y, z)) continue;
+
+            Long key = pack(x, y, z);
+            if (entry.originals.containsKey(key)) continue;
+
+            if (entry.originals.size() >= maxChanges || blockEntity.getAsBoolean()) {
+                entry.overflowed = true;
+                entry.originals.clear();
+                continue;
+            }
+
+            entry.originals.put(key, original.get());
+        }
+    }
+
+    /**
+     * Returns the arena's recorded changes and starts a new set, or null if the
+     * arena isn't tracked or had changes that can't be reverted one by one.
+     */
+    public Map<Long, BlockData> takeChanges(Arena arena) {
+        TrackedArena entry = tracked.get(arena.getName());
+        if (entry == null) return null;
+
+        Map<Long, BlockData> changes = entry.overflowed ? null : new LinkedHashMap<>(entry.originals);
+        entry.originals.clear();
+        entry.overflowed = false;
+        return changes;
+    }
+
+    public int getTrackedCount() {
+        return tracked.size();
+    }
+
+    // Same layout Minecraft uses for block positions: 26 bits x, 26 bits z, 12 bits y
+    static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    static int unpackX(long position) {
+        return (int) (position >> 38);
+    }
+
+    static int unpackY(long position) {
+        return (int) (position << 52 >> 52);
+    }
+
+    static int unpackZ(long position) {
+        return (int) (position << 26 >> 38);
+    }
+}
@@ -2,14 +2,26 @@ package com.yourname.customkitduels.managers;
 
 import com.yourname.customkitduels.CustomKitDuels;
 import com.yourname.customkitduels.data.Arena;
+import com.yourname.customkitduels.data.ArenaBlocks;
+import com.yourname.customkitduels.storage.ArenaSnapshotFile;
+import com.yourname.customkitduels.storage.ArenaStorage;
+import com.yourname.customkitduels.storage.SqliteArenaStorage;
+import com.yourname.customkitduels.storage.StoredArena;
+import com.yourname.customkitduels.storage.YamlArenaStorage;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 
 import java.io.File;
 import java.io.IOException;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 public class ArenaManager {
     
@@ -18,6 +30,11 @@ public class ArenaManager {
     private final File schematicsFolder;
     private final Map<String, Arena> arenas;
     private final List<String> availableArenas;
+    private final ArenaStorage storage;
+    private final ArenaRegenerator regenerator;
+    private final SchematicCache schematicCache;
+    private final ArenaChangeTracker changeTracker;
+    private final ArenaPool pool;
     
     public ArenaManager(CustomKitDuels plugin) {
         this.plugin = plugin;
@@ -34,65 +51,71 @@ public class ArenaManager {
             schematicsFolder.mkdirs();
         }
         
-        loadArenas();
+        this.storage = createStorage();
+        this.regenerator = new ArenaRegenerator(plugin);
+        this.schematicCache = new SchematicCache(plugin.getConfig().getLong("settings.schematic-cache-mb", 64) * 1024 * 1024);
+        this.changeTracker = new ArenaChangeTracker(plugin.getConfig().getInt("settings.regeneration-max-changes", 5000));
+        this.pool = new ArenaPool(this);
     }
     
-    public void loadArenas() {
-        arenas.clear();
-        availableArenas.clear();
-        
-        // Load from individual arena files
-        File[] arenaFiles = arenasFolder.listFiles((dir, name) -> name.endsWith(".yml"));
-        if (arenaFiles != null) {
-            for (File file : arenaFiles) {
-                String arenaName = file.getName().replace(".yml", "");
-                loadArena(arenaName);
+    private ArenaStorage createStorage() {
+        String storageType = plugin.getConfig().getString("storage.arenas", "yaml");
+        if (storageType.equalsIgnoreCase("sqlite")) {
+            try {
+                return new SqliteArenaStorage(plugin.getDatabase(), plugin.getLogger());
+            } catch (SQLException e) {
+                plugin.getLogger().severe("Failed to open the database: " + e.getMessage());
             }
+        } else if (!storageType.equalsIgnoreCase("yaml")) {
+            plugin.getLogger().warning("Unknown arena storage '" + storageType + "', using yaml");
         }
-        
-        plugin.getLogger().info("Loaded " + arenas.size() + " arenas (" + availableArenas.size() + " available for duels)");
+        return new YamlArenaStorage(arenasFolder, plugin.getLogger());
     }
     
-    private void loadArena(String arenaName) {
-        File arenaFile = new File(arenasFolder, arenaName + ".yml");
-        if (!arenaFile.exists()) return;
-        
-        FileConfiguration config = YamlConfiguration.loadConfiguration(arenaFile);
-        Arena arena = new Arena(arenaName);
-        
+    public void loadArenas() {
+        bindArenas(readArenas());
+    }
+    
+    /**
+     * Reads the stored arenas without resolving their worlds. Safe to call off
+     * the main thread, the arenas are set up with {@link #bindArenas}.
+     */
+    public List<StoredArena> readArenas() {
         try {
-            // Load positions
-            if (config.contains("pos1")) {
-                arena.setPos1((Location) config.get("pos1"));
-            }
-            if (config.contains("pos2")) {
-                arena.setPos2((Location) config.get("pos2"));
-            }
-            
-            // Load spawn points
-            if (config.contains("spawn1")) {
-                arena.setSpawn1((Location) config.get("spawn1"));
-            }
-            if (config.contains("spawn2")) {
-                arena.setSpawn2((Location) config.get("spawn2"));
+            return storage.loadAll();
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to load arenas: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+    
+    /**
+     * Replaces the loaded arenas with the given stored ones, resolving their worlds.
+     */
+    public void bindArenas(List<StoredArena> loaded) {
+        arenas.clear();
+        availableArenas.clear();
+        
+        for (StoredArena stored : loaded) {
+            Arena arena;
+            try {
+                arena = stored.bind();
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Failed to load arena " + stored.getName() + ": " + e.getMessage());
+                continue;
             }
             
-            // Load regeneration settings
-            arena.setRegeneration(config.getBoolean("regeneration", false));
-            arena.setSchematicName(config.getString("schematicName", arenaName.toLowerCase() + "_arena"));
-            
-            arenas.put(arenaName, arena);
+            arenas.put(arena.getName(), arena);
             
             // Only add to available if fully configured
             if (arena.isComplete()) {
-                availableArenas.add(arenaName);
+                availableArenas.add(arena.getName());
             }
             
-            plugin.getLogger().info("Loaded arena: " + arenaName + " (Complete: " + arena.isComplete() + ", Regen: " + arena.hasRegeneration() + ")");
-            
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to load arena " + arenaName + ": " + e.getMessage());
+            plugin.getLogger().info("Loaded arena: " + arena.getName() + " (Complete: " + arena.isComplete() + ", Regen: " + arena.hasRegeneration() + ")");
         }
+        
+        plugin.getLogger().info("Loaded " + arenas.size() + " arenas (" + availableArenas.size() + " available for duels)");
     }
     
     public void createArena(String name) {
@@ -103,35 +126,17 @@ public class ArenaManager {
     }
     
     public void saveArena(Arena arena) {
-        File arenaFile = new File(arenasFolder, arena.getName() + ".yml");
-        FileConfiguration config = new YamlConfiguration();
-        
-        // Save positions
-        if (arena.getPos1() != null) {
-            config.set("pos1", arena.getPos1());
-        }
-        if (arena.getPos2() != null) {
-            config.set("pos2", arena.getPos2());
-        }
-        
-        // Save spawn points
-        if (arena.getSpawn1() != null) {
-            config.set("spawn1", arena.getSpawn1());
-        }
-        if (arena.getSpawn2() != null) {
-            config.set("spawn2", arena.getSpawn2());
-        }
-        
-        // Save regeneration settings
-        config.set("regeneration", arena.hasRegeneration());
-        config.set("schematicName", arena.getSchematicName());
+        // The region may have changed
+        changeTracker.forgetRestored(arena);
         
         try {
-            config.save(arenaFile);
+            storage.save(arena);
             
             // Update available arenas list
             if (arena.isComplete() && !availableArenas.contains(arena.getName())) {
                 availableArenas.add(arena.getName());
+                // Duels may be waiting for an arena
+                pool.dispatch();
             } else if (!arena.isComplete() && availableArenas.contains(arena.getName())) {
                 availableArenas.remove(arena.getName());
             }
@@ -143,15 +148,121 @@ public class ArenaManager {
         }
     }
     
-    public void generateSchematic(Arena arena, Player player) throws Exception {
+    /**
+     * Saves the arena's current blocks for regeneration. With FAWE installed
+     * this writes a WorldEdit schematic, otherwise the plugin's own snapshot,
+     * which is captured from chunk snapshots and written on the arena thread.
+     * The future completes on the main thread once the file is written.
+     */
+    public CompletableFuture<Void> generateSchematic(Arena arena, Player player) {
+        if (arena.getPos1() == null || arena.getPos2() == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Arena positions are not set!"));
+        }
+        
+        changeTracker.forgetRestored(arena);
+        
         if (!plugin.getServer().getPluginManager().isPluginEnabled("FastAsyncWorldEdit")) {
-            throw new Exception("FastAsyncWorldEdit (FAWE) is not installed!");
+            return captureSnapshot(arena);
         }
         
-        if (arena.getPos1() == null || arena.getPos2() == null) {
-            throw new Exception("Arena positions are not set!");
+        try {
+            writeWorldEditSchematic(arena, player);
+            // Regeneration uses whichever file exists, don't leave an outdated snapshot behind
+            deleteSavedBlocks(getSnapshotFile(arena));
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
         }
+    }
+    
+    private CompletableFuture<Void> captureSnapshot(Arena arena) {
+        World world = arena.getPos1().getWorld();
+        if (world == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("The arena's world is not loaded!"));
+        }
+        
+        Location pos1 = arena.getPos1();
+        Location pos2 = arena.getPos2();
+        int minX = Math.min(pos1.getBlockX(), pos2.getBlockX());
+        int minY = Math.max(Math.min(pos1.getBlockY(), pos2.getBlockY()), world.getMinHeight());
+        int minZ = Math.min(pos1.getBlockZ(), pos2.getBlockZ());
+        int maxX = Math.max(pos1.getBlockX(), pos2.getBlockX());
+        int maxY = Math.min(Math.max(pos1.getBlockY(), pos2.getBlockY()), world.getMaxHeight() - 1);
+        int maxZ = Math.max(pos1.getBlockZ(), pos2.getBlockZ());
+        if (minY > maxY) {
+            return CompletableFuture.failedFuture(new IllegalStateException("The arena is outside the world's height limits!"));
+        }
+        
+        // Snapshots are cheap to take and safe to read from another thread
+        int minChunkX = minX >> 4;
+        int minChunkZ = minZ >> 4;
+        int chunksX = (maxX >> 4) - minChunkX + 1;
+        int chunksZ = (maxZ >> 4) - minChunkZ + 1;
+        ChunkSnapshot[] chunks = new ChunkSnapshot[chunksX * chunksZ];
+        int blockEntities = 0;
+        for (int cx = 0; cx < chunksX; cx++) {
+            for (int cz = 0; cz < chunksZ; cz++) {
+                Chunk chunk = world.getChunkAt(minChunkX + cx, minChunkZ + cz);
+                chunks[cz * chunksX + cx] = chunk.getChunkSnapshot();
+                for (BlockState state : chunk.getTileEntities()) {
+                    if (state.getX() >= minX && state.getX() <= maxX && state.getY() >= minY && state.getY() <= maxY
+                            && state.getZ() >= minZ && state.getZ() <= maxZ) {
+                        blockEntities++;
+                    }
+                }
+            }
+        }
+        
+        // Snapshots only hold block states, so chest contents, sign text and
+        // banner patterns come back empty when the arena is rebuilt
+        if (blockEntities > 0) {
+            plugin.getLogger().warning("Arena " + arena.getName() + " has " + blockEntities + " chests, signs or other block entities. "
+                    + "Without FastAsyncWorldEdit their contents are not restored when the arena is rebuilt");
+        }
+        
+        File snapshotFile = getSnapshotFile(arena);
+        long start = System.nanoTime();
         
+        return regenerator.submit(() -> {
+            int width = maxX - minX + 1;
+            int height = maxY - minY + 1;
+            int length = maxZ - minZ + 1;
+            
+            Map<BlockData, Integer> paletteIndex = new HashMap<>();
+            List<String> palette = new ArrayList<>();
+            int[] blocks = new int[width * height * length];
+            
+            int i = 0;
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        ChunkSnapshot chunk = chunks[((z >> 4) - minChunkZ) * chunksX + (x >> 4) - minChunkX];
+                        BlockData data = chunk.getBlockData(x & 15, y, z & 15);
+                        Integer index = paletteIndex.get(data);
+                        if (index == null) {
+                            index = palette.size();
+                            paletteIndex.put(data, index);
+                            palette.add(data.getAsString());
+                        }
+                        blocks[i++] = index;
+                    }
+                }
+            }
+            
+            // Placed at the arena's first position, like a schematic
+            ArenaSnapshotFile.write(snapshotFile, new ArenaBlocks(width, height, length,
+                    minX - pos1.getBlockX(), minY - pos1.getBlockY(), minZ - pos1.getBlockZ(),
+                    palette.toArray(new String[0]), blocks));
+            return null;
+        }).thenAccept(result -> {
+            schematicCache.invalidate(snapshotFile);
+            deleteSavedBlocks(getSchematicFile(arena));
+            plugin.getLogger().info("Saved snapshot of arena " + arena.getName() + ": " + snapshotFile.getName());
+            plugin.getDebugLogger().debug(Subsystem.ARENA, () -> "Captured " + arena.getName() + " in " + (System.nanoTime() - start) / 1_000_000 + "ms");
+        });
+    }
+    
+    private void writeWorldEditSchematic(Arena arena, Player player) throws Exception {
         try {
             // Use FAWE API to generate schematic - FIXED TYPE CONVERSIONS
             com.sk89q.worldedit.world.World world = com.sk89q.worldedit.bukkit.BukkitAdapter.adapt(player.getWorld());
@@ -169,7 +280,7 @@ public class ArenaManager {
             com.sk89q.worldedit.function.operation.Operations.complete(copy);
             
             // Save schematic
-            File schematicFile = new File(schematicsFolder, arena.getSchematicName() + ".schem");
+            File schematicFile = getSchematicFile(arena);
             com.sk89q.worldedit.extent.clipboard.io.ClipboardFormat format = 
                 com.sk89q.worldedit.extent.clipboard.io.BuiltInClipboardFormat.SPONGE_SCHEMATIC;
             
@@ -178,6 +289,7 @@ public class ArenaManager {
                 writer.write(clipboard);
             }
             
+            schematicCache.invalidate(schematicFile);
             plugin.getLogger().info("Generated schematic for arena " + arena.getName() + ": " + schematicFile.getName());
             
         } catch (Exception e) {
@@ -186,69 +298,177 @@ public class ArenaManager {
         }
     }
     
-    public void regenerateArena(Arena arena) {
+    /**
+     * Restores an arena from its snapshot, or its schematic with FAWE installed.
+     * The saved blocks are read off the main thread and the blocks are placed over several ticks, so the arena is only
+     * restored once the returned future completes. The future completes on the
+     * main thread, exceptionally if the arena couldn't be restored.
+     *
+     * While the arena's changes are tracked, only the blocks changed since the
+     * last restore are put back, unless there were too many of them.
+     */
+    public CompletableFuture<Void> regenerateArena(Arena arena) {
         if (!arena.isRegenerationReady()) {
             plugin.getLogger().warning("Arena " + arena.getName() + " is not ready for regeneration!");
-            return;
+            return CompletableFuture.failedFuture(new IllegalStateException("Arena is not ready for regeneration"));
+        }
+        
+        // Only put back what changed since the last restore when the changes were tracked
+        Map<Long, BlockData> changes = changeTracker.takeChanges(arena);
+        if (changes != null && arena.getPos1().getWorld() != null) {
+            return regenerator.revert(arena, arena.getPos1().getWorld(), changes);
+        }
+        
+        // The plugin's own snapshot needs nothing else installed
+        File snapshotFile = getSnapshotFile(arena);
+        if (snapshotFile.exists()) {
+            // A snapshot is never bigger than the arena it was taken of
+            long maxBlocks = (Math.abs((long) arena.getPos1().getBlockX() - arena.getPos2().getBlockX()) + 1)
+                    * (Math.abs((long) arena.getPos1().getBlockY() - arena.getPos2().getBlockY()) + 1)
+                    * (Math.abs((long) arena.getPos1().getBlockZ() - arena.getPos2().getBlockZ()) + 1);
+            return regenerator.regenerate(arena, arena.getPos1(), () -> schematicCache.get(snapshotFile, file -> ArenaSnapshotFile.read(file, maxBlocks)));
+        }
+        
+        File schematicFile = getSchematicFile(arena);
+        if (!schematicFile.exists()) {
+            plugin.getLogger().warning("No schematic or snapshot found for arena " + arena.getName());
+            return CompletableFuture.failedFuture(new IllegalStateException("Schematic file not found"));
         }
         
         if (!plugin.getServer().getPluginManager().isPluginEnabled("FastAsyncWorldEdit")) {
-            plugin.getLogger().warning("FastAsyncWorldEdit (FAWE) is required for arena regeneration!");
-            return;
+            plugin.getLogger().warning("FastAsyncWorldEdit (FAWE) is required to read the schematic of arena " + arena.getName() + ", generate it again to save a snapshot instead");
+            return CompletableFuture.failedFuture(new IllegalStateException("FastAsyncWorldEdit is not installed"));
         }
         
-        try {
-            File schematicFile = new File(schematicsFolder, arena.getSchematicName() + ".schem");
-            if (!schematicFile.exists()) {
-                plugin.getLogger().warning("Schematic file not found for arena " + arena.getName() + ": " + schematicFile.getName());
-                return;
+        return regenerator.regenerate(arena, arena.getPos1(), () -> schematicCache.get(schematicFile, this::readSchematic));
+    }
+    
+    /**
+     * Reads a schematic into a block palette. Runs off the main thread.
+     */
+    private ArenaBlocks readSchematic(File schematicFile) throws IOException {
+        com.sk89q.worldedit.extent.clipboard.io.ClipboardFormat format = 
+            com.sk89q.worldedit.extent.clipboard.io.BuiltInClipboardFormat.SPONGE_SCHEMATIC;
+        
+        com.sk89q.worldedit.extent.clipboard.Clipboard clipboard;
+        try (com.sk89q.worldedit.extent.clipboard.io.ClipboardReader reader = 
+             format.getReader(new java.io.FileInputStream(schematicFile))) {
+            clipboard = reader.read();
+        }
+        
+        com.sk89q.worldedit.math.BlockVector3 min = clipboard.getRegion().getMinimumPoint();
+        com.sk89q.worldedit.math.BlockVector3 max = clipboard.getRegion().getMaximumPoint();
+        com.sk89q.worldedit.math.BlockVector3 origin = clipboard.getOrigin();
+        int width = max.x() - min.x() + 1;
+        int height = max.y() - min.y() + 1;
+        int length = max.z() - min.z() + 1;
+        
+        Map<String, Integer> paletteIndex = new HashMap<>();
+        List<String> palette = new ArrayList<>();
+        int[] blocks = new int[width * height * length];
+        // Signs, chests, banners and the like, keyed by their position in the region
+        Map<com.sk89q.worldedit.math.BlockVector3, com.sk89q.worldedit.world.block.BaseBlock> blockEntities = new HashMap<>();
+        
+        for (com.sk89q.worldedit.math.BlockVector3 position : clipboard.getRegion()) {
+            com.sk89q.worldedit.world.block.BaseBlock fullBlock = clipboard.getFullBlock(position);
+            if (fullBlock.hasNbtData()) {
+                blockEntities.put(com.sk89q.worldedit.math.BlockVector3.at(
+                        position.x() - min.x(), position.y() - min.y(), position.z() - min.z()), fullBlock);
             }
             
-            // Load and paste schematic using FAWE - FIXED TYPE CONVERSIONS
-            com.sk89q.worldedit.extent.clipboard.io.ClipboardFormat format = 
-                com.sk89q.worldedit.extent.clipboard.io.BuiltInClipboardFormat.SPONGE_SCHEMATIC;
-            
-            com.sk89q.worldedit.extent.clipboard.Clipboard clipboard;
-            try (com.sk89q.worldedit.extent.clipboard.io.ClipboardReader reader = 
-                 format.getReader(new java.io.FileInputStream(schematicFile))) {
-                clipboard = reader.read();
+            String block = clipboard.getBlock(position).getAsString();
+            Integer index = paletteIndex.get(block);
+            if (index == null) {
+                index = palette.size();
+                paletteIndex.put(block, index);
+                palette.add(block);
             }
             
-            com.sk89q.worldedit.world.World world = 
-                com.sk89q.worldedit.bukkit.BukkitAdapter.adapt(arena.getPos1().getWorld());
-            
-            try (com.sk89q.worldedit.EditSession editSession = 
-                 com.sk89q.worldedit.WorldEdit.getInstance().newEditSession(world)) {
-                
-                com.sk89q.worldedit.function.operation.Operation operation = 
-                    new com.sk89q.worldedit.session.ClipboardHolder(clipboard)
-                        .createPaste(editSession)
-                        .to(com.sk89q.worldedit.bukkit.BukkitAdapter.asBlockVector(arena.getPos1()))
-                        .ignoreAirBlocks(false)
-                        .build();
-                
-                com.sk89q.worldedit.function.operation.Operations.complete(operation);
+            int x = position.x() - min.x();
+            int y = position.y() - min.y();
+            int z = position.z() - min.z();
+            blocks[(y * length + z) * width + x] = index;
+        }
+        
+        // Pasted like WorldEdit does, with the clipboard's origin at the arena's first position
+        return new ArenaBlocks(width, height, length, min.x() - origin.x(), min.y() - origin.y(), min.z() - origin.z(),
+                palette.toArray(new String[0]), blocks, blockEntities.isEmpty() ? null : new WorldEditBlockEntities(blockEntities));
+    }
+    
+    /**
+     * Block entities from a schematic, placed with their data through WorldEdit.
+     */
+    private static final class WorldEditBlockEntities implements ArenaBlocks.BlockEntities {
+        
+        private final Map<com.sk89q.worldedit.math.BlockVector3, com.sk89q.worldedit.world.block.BaseBlock> blocks;
+        
+        WorldEditBlockEntities(Map<com.sk89q.worldedit.math.BlockVector3, com.sk89q.worldedit.world.block.BaseBlock> blocks) {
+            this.blocks = blocks;
+        }
+        
+        @Override
+        public int size() {
+            return blocks.size();
+        }
+        
+        @Override
+        public void place(World world, int baseX, int baseY, int baseZ) {
+            try (com.sk89q.worldedit.EditSession session = com.sk89q.worldedit.WorldEdit.getInstance()
+                    .newEditSession(com.sk89q.worldedit.bukkit.BukkitAdapter.adapt(world))) {
+                for (Map.Entry<com.sk89q.worldedit.math.BlockVector3, com.sk89q.worldedit.world.block.BaseBlock> entry : blocks.entrySet()) {
+                    com.sk89q.worldedit.math.BlockVector3 position = entry.getKey();
+                    session.setBlock(com.sk89q.worldedit.math.BlockVector3.at(
+                            baseX + position.x(), baseY + position.y(), baseZ + position.z()), entry.getValue());
+                }
+            } catch (com.sk89q.worldedit.WorldEditException e) {
+                throw new IllegalStateException(e.getMessage(), e);
             }
-            
-            plugin.getLogger().info("Regenerated arena: " + arena.getName());
-            
-        } catch (Exception e) {
-            plugin.getLogger().severe("Failed to regenerate arena " + arena.getName() + ": " + e.getMessage());
         }
     }
     
+    /**
+     * Records block changes in arenas that are in use, see {@link #regenerateArena}.
+     */
+    public ArenaChangeTracker getChangeTracker() {
+        return changeTracker;
+    }
+    
+    private File getSchematicFile(Arena arena) {
+        return new File(schematicsFolder, arena.getSchematicName() + ".schem");
+    }
+    
+    private File getSnapshotFile(Arena arena) {
+        return new File(schematicsFolder, arena.getSchematicName() + ".snapshot");
+    }
+    
+    private void deleteSavedBlocks(File file) {
+        schematicCache.invalidate(file);
+        if (file.exists()) {
+            file.delete();
+        }
+    }
+    
+    public SchematicCache getSchematicCache() {
+        return schematicCache;
+    }
+    
+    public void shutdown() {
+        regenerator.shutdown();
+    }
+    
     public Arena getArena(String name) {
         return arenas.get(name);
     }
     
-    public Arena getRandomAvailableArena() {
-        if (availableArenas.isEmpty()) {
-            return null;
-        }
-        
-        Random random = new Random();
-        String arenaName = availableArenas.get(random.nextInt(availableArenas.size()));
-        return arenas.get(arenaName);
+    /**
+     * Leases arenas to duels, see {@link ArenaPool}.
+     */
+    public ArenaPool getArenaPool() {
+        return pool;
+    }
+    
+    public boolean isRegenerating(Arena arena) {
+        return regenerator.isRegenerating(arena);
     }
     
     public List<String> getAvailableArenas() {
@@ -267,17 +487,16 @@ public class ArenaManager {
         Arena arena = arenas.remove(name);
         if (arena == null) return false;
         
-        // Delete arena file
-        File arenaFile = new File(arenasFolder, name + ".yml");
-        if (arenaFile.exists()) {
-            arenaFile.delete();
+        // Delete stored arena
+        try {
+            storage.delete(name);
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to delete arena " + name + ": " + e.getMessage());
         }
         
-        // Delete schematic file if it exists
-        File schematicFile = new File(schematicsFolder, arena.getSchematicName() + ".schem");
-        if (schematicFile.exists()) {
-            schematicFile.delete();
-        }
+        // Delete the saved blocks if there are any
+        deleteSavedBlocks(getSchematicFile(arena));
+        deleteSavedBlocks(getSnapshotFile(arena));
         
         availableArenas.remove(name);
         plugin.getLogger().info("Deleted arena: " + name);
@@ -0,0 +1,293 @@
+package com.yourname.customkitduels.managers;
+
+import com.yourname.customkitduels.data.Arena;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Hands out arenas so that each arena hosts one duel at a time. A duel leases
+ * an arena when it's accepted and releases it once the arena has been rebuilt
+ * after the duel. While every arena is leased, duel starts wait in a queue and
+ * get the next released arena.
+ *
+ * Also keeps the numbers needed to size the arena pool: peak use, how often
+ * duels had to wait and how busy the arenas were on average.
+ *
+ * Only used on the main thread.
+ */
+public class ArenaPool {
+
+    public enum State {
+        FREE, BUSY, REGENERATING
+    }
+
+    /**
+     * A duel waiting for an arena.
+     */
+    public interface Waiter {
+
+        /**
+         * Starts the duel in the leased arena. Returns false if the duel can't
+         * start anymore, the arena is then passed on.
+         */
+        boolean start(Lease lease);
+    }
+
+    /**
+     * One duel's hold on an arena. Releasing a lease more than once does
+     * nothing, so a late release can't free the arena under the next duel.
+     */
+    public static final class Lease {
+
+        private final Arena arena;
+        private boolean ending;
+        private boolean released;
+
+        Lease(Arena arena) {
+            this.arena = arena;
+        }
+
+        public Arena getArena() {
+            return arena;
+        }
+
+        /**
+         * Marks the duel as done with the arena, which stays leased until
+         * {@link #release}. Returns false if the lease was already ending.
+         */
+        public boolean end() {
+            if (ending) return false;
+
+            ending = true;
+            return true;
+        }
+
+        public boolean isReleased() {
+            return released;
+        }
+    }
+
+    private static final class Queued {
+
+        private final Waiter waiter;
+        private final long since;
+
+        Queued(Waiter waiter, long since) {
+            this.waiter = waiter;
+            this.since = since;
+        }
+    }
+
+    private final ArenaManager arenaManager;
+    // The current lease of each leased arena, by arena name
+    private final Map<String, Lease> leased = new HashMap<>();
+    private final Deque<Queued> queue = new ArrayDeque<>();
+    private final Random random = new Random();
+
+    private long leaseCount;
+    private long queuedLeaseCount;
+    private long totalWaitMillis;
+    private int peakBusy;
+    private int peakQueued;
+    // Arena time spent leased and available, for the average utilization
+    private long busyArenaMillis;
+    private long availableArenaMillis;
+    private long lastUpdate = System.currentTimeMillis();
+
+    ArenaPool(ArenaManager arenaManager) {
+        this.arenaManager = arenaManager;
+    }
+
+    /**
+     * Leases a free arena to the waiter right away, or queues it. Returns 0 if
+     * the duel was started, -1 if it couldn't start, otherwise its place in
+     * the queue.
+     */
+    public int lease(Waiter waiter) {
+        // Give the earlier duels their turn first
+        if (queue.isEmpty()) {
+            Lease lease = takeFreeArena();
+            if (lease != null) {
+                if (waiter.start(lease)) {
+                    leaseCount++;
+                    return 0;
+                }
+                
+                release(lease);
+                return -1;
+            }
+        }
+
+        queue.addLast(new Queued(waiter, System.currentTimeMillis()));
+        peakQueued = Math.max(peakQueued, queue.size());
+        return queue.size();
+    }
+
+    /**
+     * Removes a waiter from the queue. Returns false if it wasn't queued.
+     */
+    public boolean cancel(Waiter waiter) {
+        Iterator<Queued> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().waiter == waiter) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gives the arena back and starts the next queued duel if there is one.
+     * Does nothing if the lease was already released.
+     */
+    public void release(Lease lease) {
+        if (lease.released) return;
+
+        lease.released = true;
+        lease.ending = true;
+        updateTimes();
+        if (leased.remove(lease.arena.getName(), lease)) {
+            dispatch();
+        }
+    }
+
+    /**
+     * Starts queued duels in free arenas. Called when an arena is released or
+     * becomes available.
+     */
+    public void dispatch() {
+        while (!queue.isEmpty()) {
+            Lease lease = takeFreeArena();
+            if (lease == null) return;
+
+            Queued next = queue.pollFirst();
+            if (next.waiter.start(lease)) {
+                leaseCount++;
+                queuedLeaseCount++;
+                totalWaitMillis += System.currentTimeMillis() - next.since;
+            } else {
+                // Not through release, that would dispatch again from in here
+                lease.released = true;
+                updateTimes();
+                leased.remove(lease.arena.getName());
+            }
+        }
+    }
+
+    // Picks a random arena that is set up and not leased, and leases it
+    private Lease takeFreeArena() {
+        List<Arena> free = new ArrayList<>();
+        for (String name : arenaManager.getAvailableArenas()) {
+            if (!leased.containsKey(name)) {
+                Arena arena = arenaManager.getArena(name);
+                if (arena != null) {
+                    free.add(arena);
+                }
+            }
+        }
+        if (free.isEmpty()) return null;
+
+        Lease lease = new Lease(free.get(random.nextInt(free.size())));
+        updateTimes();
+        leased.put(lease.arena.getName(), lease);
+        peakBusy = Math.max(peakBusy, leased.size());
+        return lease;
+    }
+
+    private void updateTimes() {
+        long now = System.currentTimeMillis();
+        long elapsed = now - lastUpdate;
+        lastUpdate = now;
+
+        busyArenaMillis += elapsed * leased.size();
+        availableArenaMillis += elapsed * Math.max(arenaManager.getAvailableArenas().size(), leased.size());
+    }
+
+    public State getState(Arena arena) {
+        if (!leased.containsKey(arena.getName())) return State.FREE;
+        return arenaManager.isRegenerating(arena) ? State.REGENERATING : State.BUSY;
+    }
+
+    public int getFreeCount() {
+        int free = 0;
+        for (String name : arenaManager.getAvailableArenas()) {
+            if (!leased.containsKey(name)) {
+                free++;
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Leased arenas, including the ones being rebuilt between rounds or after a duel.
+     */
+    public int getLeasedCount() {
+        return leased.size();
+    }
+
+    public int getRegeneratingCount() {
+        int regenerating = 0;
+        for (String name : leased.keySet()) {
+            Arena arena = arenaManager.getArena(name);
+            if (arena != null && arenaManager.isRegenerating(arena)) {
+                regenerating++;
+            }
+        }
+        return regenerating;
+    }
+
+    public int getQueueLength() {
+        return queue.size();
+    }
+
+    public int getPeakQueueLength() {
+        return peakQueued;
+    }
+
+    public int getPeakLeasedCount() {
+        return peakBusy;
+    }
+
+    public long getLeaseCount() {
+        return leaseCount;
+    }
+
+    /**
+     * How many leases went to duels that had to wait in the queue.
+     */
+    public long getQueuedLeaseCount() {
+        return queuedLeaseCount;
+    }
+
+    public double getAverageWaitSeconds() {
+        return queuedLeaseCount == 0 ? 0 : totalWaitMillis / 1000.0 / queuedLeaseCount;
+    }
+
+    /**
+     * The share of arena time spent leased since the plugin started, from 0 to 1.
+     */
+    public double getAverageUtilization() {
+        updateTimes();
+        return availableArenaMillis == 0 ? 0 : (double) busyArenaMillis / availableArenaMillis;
+    }
+
+    /**
+     * Releases every arena and drops the queue without starting anything.
+     */
+    public void clear() {
+        updateTimes();
+        for (Lease lease : leased.values()) {
+            lease.released = true;
+        }
+        leased.clear();
+        queue.clear();
+    }
+}
@@ -0,0 +1,317 @@
+package com.yourname.customkitduels.managers;
+
+import com.yourname.customkitduels.CustomKitDuels;
+import com.yourname.customkitduels.data.Arena;
+import com.yourname.customkitduels.data.ArenaBlocks;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Rebuilds arenas without stalling the server. The saved blocks are read on a
+ * background thread, then placed on the main thread a limited number per tick
+ * (settings.regeneration-blocks-per-tick). Arenas whose changes were tracked
+ * only have the changed blocks put back.
+ */
+public class ArenaRegenerator {
+
+    /**
+     * Reads the blocks to restore. Called off the main thread.
+     */
+    public interface BlockSource {
+        ArenaBlocks read() throws Exception;
+    }
+
+    private final CustomKitDuels plugin;
+    private final ExecutorService reader;
+    private final int blocksPerTick;
+    // Only used on the main thread
+    private final Map<String, CompletableFuture<Void>> running = new HashMap<>();
+
+    ArenaRegenerator(CustomKitDuels plugin) {
+        this.plugin = plugin;
+        this.blocksPerTick = Math.max(1, plugin.getConfig().getInt("settings.regeneration-blocks-per-tick", 4000));
+        this.reader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CustomKitDuels-Arena");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts restoring an arena's blocks at the given location. If the arena is
+     * already being restored, returns the running restore instead.
+     *
+     * The returned future is always completed on the main thread, exceptionally
+     * if the blocks couldn't be read.
+     */
+    public CompletableFuture<Void> regenerate(Arena arena, Location origin, BlockSource source) {
+        CompletableFuture<Void> current = running.get(arena.getName());
+        if (current != null) return current;
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (origin.getWorld() == null) {
+            result.completeExceptionally(new IllegalStateException("World of arena " + arena.getName() + " is not loaded"));
+            return result;
+        }
+        running.put(arena.getName(), result);
+        long start = System.nanoTime();
+
+        try {
+            reader.execute(() -> {
+                ArenaBlocks blocks;
+                try {
+                    blocks = source.read();
+                } catch (Exception e) {
+                    onMainThread(() -> fail(arena, result, e));
+                    return;
+                }
+
+                long readNanos = System.nanoTime() - start;
+                onMainThread(() -> new SchematicTask(arena, origin, blocks, result, start, readNanos).runTaskTimer(plugin, 0L, 1L));
+            });
+        } catch (RejectedExecutionException e) {
+            fail(arena, result, e);
+        }
+
+        return result;
+    }
+
+    /**
+     * Starts putting back the original blocks recorded by the change tracker.
+     * Nothing has to be read, so placing starts on the next tick. If the arena
+     * is already being restored, returns the running restore instead.
+     */
+    public CompletableFuture<Void> revert(Arena arena, World world, Map<Long, BlockData> changes) {
+        CompletableFuture<Void> current = running.get(arena.getName());
+        if (current != null) return current;
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        running.put(arena.getName(), result);
+        new RevertTask(arena, world, changes, result, System.nanoTime()).runTaskTimer(plugin, 0L, 1L);
+        return result;
+    }
+
+    /**
+     * Runs a task on the arena thread, behind any arenas being read. The
+     * returned future is completed on the main thread, exceptionally if the
+     * task failed.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            reader.execute(() -> {
+                try {
+                    T value = task.call();
+                    onMainThread(() -> result.complete(value));
+                } catch (Exception e) {
+                    onMainThread(() -> result.completeExceptionally(e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    public boolean isRegenerating(Arena arena) {
+        return running.containsKey(arena.getName());
+    }
+
+    private void onMainThread(Runnable task) {
+        // Nothing to hand back to once the plugin is disabled
+        if (plugin.isEnabled()) {
+            plugin.getServer().getScheduler().runTask(plugin, task);
+        }
+    }
+
+    private void fail(Arena arena, CompletableFuture<Void> result, Exception e) {
+        running.remove(arena.getName());
+        plugin.getLogger().severe("Failed to regenerate arena " + arena.getName() + ": " + e.getMessage());
+        result.completeExceptionally(e);
+    }
+
+    /**
+     * Stops reading blocks. Restores in progress end with the plugin's tasks.
+     */
+    public void shutdown() {
+        reader.shutdownNow();
+    }
+
+    // Places a fixed number of blocks, at most blocksPerTick of them each tick
+    private abstract class PlaceTask extends BukkitRunnable {
+
+        final Arena arena;
+        final World world;
+        private final int total;
+        private final CompletableFuture<Void> result;
+        private final long start;
+        private int cursor;
+        private int changed;
+
+        PlaceTask(Arena arena, World world, int total, CompletableFuture<Void> result, long start) {
+            this.arena = arena;
+            this.world = world;
+            this.total = total;
+            this.result = result;
+            this.start = start;
+        }
+
+        /**
+         * The block at the given index and what it should be, or null to skip it.
+         */
+        abstract BlockData dataAt(int index);
+
+        abstract Block blockAt(int index);
+
+        abstract String describe(long totalMillis, int changed, int total);
+
+        /**
+         * Called once every block is placed, before the restore completes.
+         */
+        void finish() {
+        }
+
+        @Override
+        public void run() {
+            int end = Math.min(cursor + blocksPerTick, total);
+
+            for (; cursor < end; cursor++) {
+                BlockData data = dataAt(cursor);
+                if (data == null) continue;
+
+                Block block = blockAt(cursor);
+
+                // Most blocks are untouched after a round, skip the update for those
+                if (!block.getBlockData().equals(data)) {
+                    block.setBlockData(data, false);
+                    changed++;
+                }
+            }
+
+            if (cursor >= total) {
+                cancel();
+                running.remove(arena.getName());
+                finish();
+
+                long totalMillis = (System.nanoTime() - start) / 1_000_000;
+                plugin.getLogger().info("Regenerated arena: " + arena.getName());
+                plugin.getDebugLogger().debug(Subsystem.ARENA, () -> describe(totalMillis, changed, total));
+                result.complete(null);
+            }
+        }
+    }
+
+    private class SchematicTask extends PlaceTask {
+
+        private final int baseX;
+        private final int baseY;
+        private final int baseZ;
+        private final int width;
+        private final int layer;
+        private final ArenaBlocks blocks;
+        private final BlockData[] palette;
+        private final long readNanos;
+
+        SchematicTask(Arena arena, Location origin, ArenaBlocks blocks, CompletableFuture<Void> result, long start, long readNanos) {
+            super(arena, origin.getWorld(), blocks.getBlockCount(), result, start);
+            this.baseX = origin.getBlockX() + blocks.getOffsetX();
+            this.baseY = origin.getBlockY() + blocks.getOffsetY();
+            this.baseZ = origin.getBlockZ() + blocks.getOffsetZ();
+            this.width = blocks.getWidth();
+            this.layer = blocks.getWidth() * blocks.getLength();
+            this.blocks = blocks;
+            this.readNanos = readNanos;
+
+            // The palette is small, parse each entry once up front
+            String[] names = blocks.getPalette();
+            this.palette = new BlockData[names.length];
+            for (int i = 0; i < names.length; i++) {
+                try {
+                    palette[i] = Bukkit.createBlockData(names[i]);
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Unknown block " + names[i] + " in arena " + arena.getName() + ", skipping it");
+                }
+            }
+        }
+
+        @Override
+        BlockData dataAt(int index) {
+            return palette[blocks.getBlock(index)];
+        }
+
+        @Override
+        Block blockAt(int index) {
+            int y = index / layer;
+            int z = (index % layer) / width;
+            int x = index % width;
+            return world.getBlockAt(baseX + x, baseY + y, baseZ + z);
+        }
+
+        @Override
+        void finish() {
+            ArenaBlocks.BlockEntities blockEntities = blocks.getBlockEntities();
+            if (blockEntities == null) return;
+
+            // Always placed again, their contents may have changed even if the block didn't
+            try {
+                blockEntities.place(world, baseX, baseY, baseZ);
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Failed to restore block entities in arena " + arena.getName() + ": " + e.getMessage());
+            }
+        }
+
+        @Override
+        String describe(long totalMillis, int changed, int total) {
+            return "Regenerated " + arena.getName() + " in " + totalMillis + "ms (read " +
+                    readNanos / 1_000_000 + "ms), " + changed + " of " + total + " blocks changed";
+        }
+    }
+
+    private class RevertTask extends PlaceTask {
+
+        private final long[] positions;
+        private final BlockData[] originals;
+
+        RevertTask(Arena arena, World world, Map<Long, BlockData> changes, CompletableFuture<Void> result, long start) {
+            super(arena, world, changes.size(), result, start);
+            this.positions = new long[changes.size()];
+            this.originals = new BlockData[changes.size()];
+
+            int i = 0;
+            for (Map.Entry<Long, BlockData> change : changes.entrySet()) {
+                positions[i] = change.getKey();
+                originals[i] = change.getValue();
+                i++;
+            }
+        }
+
+        @Override
+        BlockData dataAt(int index) {
+            return originals[index];
+        }
+
+        @Override
+        Block blockAt(int index) {
+            long position = positions[index];
+            return world.getBlockAt(ArenaChangeTracker.unpackX(position), ArenaChangeTracker.unpackY(position), ArenaChangeTracker.unpackZ(position));
+        }
+
+        @Override
+        String describe(long totalMillis, int changed, int total) {
+            return "Reverted " + total + " changed blocks in " + arena.getName() + " in " + totalMillis + "ms, " + changed + " needed an update";
+        }
+    }
+}
@@ -1,20 +1,24 @@
 package com.yourname.customkitduels.managers;
 
 import com.yourname.customkitduels.CustomKitDuels;
+import com.yourname.customkitduels.data.ItemCatalog;
+import com.yourname.customkitduels.storage.CategoryStorage;
+import com.yourname.customkitduels.storage.SqliteCategoryStorage;
+import com.yourname.customkitduels.storage.YamlCategoryStorage;
 import org.bukkit.Material;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
 
 import java.io.File;
 import java.io.IOException;
+import java.sql.SQLException;
 import java.util.*;
 
 public class CategoryManager {
     
     private final CustomKitDuels plugin;
     private final File categoriesFolder;
-    private final Map<String, List<ItemStack>> categoryCache;
+    private final Map<String, ItemCatalog> categoryCache;
+    private final CategoryStorage storage;
     
     public CategoryManager(CustomKitDuels plugin) {
         this.plugin = plugin;
@@ -25,20 +29,56 @@ public class CategoryManager {
             categoriesFolder.mkdirs();
         }
         
-        loadCategories();
+        this.storage = createStorage();
     }
     
-    private void loadCategories() {
+    private CategoryStorage createStorage() {
+        String storageType = plugin.getConfig().getString("storage.categories", "yaml");
+        if (storageType.equalsIgnoreCase("sqlite")) {
+            try {
+                return new SqliteCategoryStorage(plugin.getDatabase());
+            } catch (SQLException e) {
+                plugin.getLogger().severe("Failed to open the database: " + e.getMessage());
+            }
+        } else if (!storageType.equalsIgnoreCase("yaml")) {
+            plugin.getLogger().warning("Unknown category storage '" + storageType + "', using yaml");
+        }
+        return new YamlCategoryStorage(categoriesFolder);
+    }
+    
+    /**
+     * Creates any missing default categories and reads every stored category's
+     * material names. Only touches storage, so it is safe to call off the main
+     * thread. The categories are set up with {@link #bindCategories}.
+     */
+    public Map<String, List<String>> readCategories() {
         // Create default categories if they don't exist
         createDefaultCategoriesIfNeeded();
         
-        // Load all category files
-        File[] categoryFiles = categoriesFolder.listFiles((dir, name) -> name.endsWith(".yml"));
-        if (categoryFiles != null) {
-            for (File file : categoryFiles) {
-                String categoryName = file.getName().replace(".yml", "").toUpperCase();
-                loadCategory(categoryName);
+        Map<String, List<String>> categories = new HashMap<>();
+        try {
+            for (String categoryName : storage.listCategories()) {
+                try {
+                    List<String> materialNames = storage.load(categoryName);
+                    if (materialNames != null) {
+                        categories.put(categoryName, materialNames);
+                    }
+                } catch (IOException e) {
+                    plugin.getLogger().severe("Failed to load category " + categoryName + ": " + e.getMessage());
+                }
             }
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to list categories: " + e.getMessage());
+        }
+        return categories;
+    }
+    
+    /**
+     * Builds the category menus from material names read by {@link #readCategories}.
+     */
+    public void bindCategories(Map<String, List<String>> categories) {
+        for (Map.Entry<String, List<String>> entry : categories.entrySet()) {
+            bindCategory(entry.getKey(), entry.getValue());
         }
     }
     
@@ -130,41 +170,34 @@ public class CategoryManager {
             "ZOMBIE_HEAD", "CREEPER_HEAD", "SKELETON_SKULL", "BELL", "LANTERN", "SOUL_LANTERN"
         ));
         
-        // Create files for categories that don't exist or are empty
+        // Create categories that don't exist or are empty
         for (Map.Entry<String, List<String>> entry : defaultCategories.entrySet()) {
-            File categoryFile = new File(categoriesFolder, entry.getKey() + ".yml");
-            boolean shouldCreate = false;
-            
-            if (!categoryFile.exists()) {
-                shouldCreate = true;
-            } else {
-                // Check if file is empty or has no items
-                FileConfiguration existingConfig = YamlConfiguration.loadConfiguration(categoryFile);
-                List<String> existingItems = existingConfig.getStringList("items");
-                if (existingItems.isEmpty()) {
-                    shouldCreate = true;
-                }
-            }
-            
-            if (shouldCreate) {
-                FileConfiguration config = new YamlConfiguration();
-                config.set("items", entry.getValue());
-                try {
-                    config.save(categoryFile);
-                    plugin.getLogger().info("Created/Updated default category file: " + entry.getKey() + ".yml with " + entry.getValue().size() + " items");
-                } catch (IOException e) {
-                    plugin.getLogger().severe("Failed to create category file " + entry.getKey() + ": " + e.getMessage());
+            try {
+                List<String> existingItems = storage.load(entry.getKey());
+                if (existingItems == null || existingItems.isEmpty()) {
+                    storage.save(entry.getKey(), entry.getValue());
+                    plugin.getLogger().info("Created/Updated default category: " + entry.getKey() + " with " + entry.getValue().size() + " items");
                 }
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to create category " + entry.getKey() + ": " + e.getMessage());
             }
         }
     }
     
     private void loadCategory(String categoryName) {
-        File categoryFile = new File(categoriesFolder, categoryName + ".yml");
-        if (!categoryFile.exists()) return;
+        List<String> materialNames;
+        try {
+            materialNames = storage.load(categoryName);
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to load category " + categoryName + ": " + e.getMessage());
+            return;
+        }
+        if (materialNames == null) return;
         
-        FileConfiguration config = YamlConfiguration.loadConfiguration(categoryFile);
-        List<String> materialNames = config.getStringList("items");
+        bindCategory(categoryName, materialNames);
+    }
+    
+    private void bindCategory(String categoryName, List<String> materialNames) {
         List<ItemStack> items = new ArrayList<>();
         
         for (String materialName : materialNames) {
@@ -176,36 +209,47 @@ public class CategoryManager {
             }
         }
         
-        categoryCache.put(categoryName, items);
+        categoryCache.put(categoryName, new ItemCatalog(categoryName, items));
         plugin.getLogger().info("Loaded category " + categoryName + " with " + items.size() + " items");
     }
     
-    public List<ItemStack> getCategoryItems(String categoryName) {
+    /**
+     * Returns the shared, read-only snapshot of a category. The snapshot is
+     * replaced, not changed, when the category is edited.
+     */
+    public ItemCatalog getCatalog(String categoryName) {
         categoryName = categoryName.toUpperCase();
-        List<ItemStack> items = categoryCache.get(categoryName);
-        if (items == null) {
+        ItemCatalog catalog = categoryCache.get(categoryName);
+        if (catalog == null) {
             // Try to load the category if it's not in cache
             loadCategory(categoryName);
-            items = categoryCache.get(categoryName);
+            catalog = categoryCache.get(categoryName);
         }
-        return items != null ? new ArrayList<>(items) : new ArrayList<>();
+        return catalog != null ? catalog : ItemCatalog.EMPTY;
+    }
+    
+    /**
+     * Returns a mutable copy of a category's items, for editing.
+     */
+    public List<ItemStack> getCategoryItems(String categoryName) {
+        List<ItemStack> items = new ArrayList<>();
+        for (ItemStack item : getCatalog(categoryName).getItems()) {
+            items.add(item.clone());
+        }
+        return items;
     }
     
     public void updateCategory(String categoryName, List<ItemStack> items) {
         categoryName = categoryName.toUpperCase();
-        categoryCache.put(categoryName, new ArrayList<>(items));
+        categoryCache.put(categoryName, new ItemCatalog(categoryName, items));
         
         List<String> materialNames = new ArrayList<>();
         for (ItemStack item : items) {
             materialNames.add(item.getType().name());
         }
         
-        File categoryFile = new File(categoriesFolder, categoryName + ".yml");
-        FileConfiguration config = new YamlConfiguration();
-        config.set("items", materialNames);
-        
         try {
-            config.save(categoryFile);
+            storage.save(categoryName, materialNames);
             plugin.getLogger().info("Saved category " + categoryName + " with " + items.size() + " items");
         } catch (IOException e) {
             plugin.getLogger().severe("Failed to save category " + categoryName + ": " + e.getMessage());
@@ -218,6 +262,6 @@ public class CategoryManager {
     
     public void reloadCategories() {
         categoryCache.clear();
-        loadCategories();
+        bindCategories(readCategories());
     }
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ import org.bukkit.potion.PotionEffect;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public class DuelManager {
     
@@ -21,6 +23,9 @@ public class DuelManager {
     private final Map<UUID, RoundsDuel> activeRoundsDuels;
     private final Map<UUID, Location> savedLocations;
     private final Set<UUID> playersInCountdown;
+    private final Map<UUID, QueuedDuel> queuedDuels;
+    private final Map<Duel, ArenaPool.Lease> duelLeases;
+    private final Map<RoundsDuel, ArenaPool.Lease> roundsDuelLeases;
     
     public DuelManager(CustomKitDuels plugin) {
         this.plugin = plugin;
@@ -30,16 +35,19 @@ public class DuelManager {
         this.activeRoundsDuels = new HashMap<>();
         this.savedLocations = new HashMap<>();
         this.playersInCountdown = new HashSet<>();
+        this.queuedDuels = new HashMap<>();
+        this.duelLeases = new HashMap<>();
+        this.roundsDuelLeases = new HashMap<>();
     }
     
     public void sendDuelRequest(Player challenger, Player target, Kit kit) {
         // Check if players are already in duels
-        if (isInAnyDuel(challenger)) {
+        if (isInAnyDuel(challenger) || isWaitingForArena(challenger)) {
             challenger.sendMessage(ChatColor.RED + "You are already in a duel or countdown!");
             return;
         }
         
-        if (isInAnyDuel(target)) {
+        if (isInAnyDuel(target) || isWaitingForArena(target)) {
             challenger.sendMessage(ChatColor.RED + "That player is already in a duel or countdown!");
             return;
         }
@@ -50,15 +58,14 @@ public class DuelManager {
             return;
         }
         
-        // Check if arena is available
-        Arena arena = plugin.getArenaManager().getRandomAvailableArena();
-        if (arena == null) {
+        // Check if there are arenas, one is leased once the duel is accepted
+        if (plugin.getArenaManager().getAvailableArenas().isEmpty()) {
             challenger.sendMessage(ChatColor.RED + "No arenas are available for dueling!");
             return;
         }
         
         // Create duel request
-        DuelRequest request = new DuelRequest(challenger, target, kit, arena);
+        DuelRequest request = new DuelRequest(challenger, target, kit);
         pendingRequests.put(target.getUniqueId(), request);
         
         // Send messages
@@ -77,12 +84,12 @@ public class DuelManager {
     
     public void sendRoundsDuelRequest(Player challenger, Player target, Kit kit, int targetRounds) {
         // Check if players are already in duels
-        if (isInAnyDuel(challenger)) {
+        if (isInAnyDuel(challenger) || isWaitingForArena(challenger)) {
             challenger.sendMessage(ChatColor.RED + "You are already in a duel or countdown!");
             return;
         }
         
-        if (isInAnyDuel(target)) {
+        if (isInAnyDuel(target) || isWaitingForArena(target)) {
             challenger.sendMessage(ChatColor.RED + "That player is already in a duel or countdown!");
             return;
         }
@@ -93,15 +100,14 @@ public class DuelManager {
             return;
         }
         
-        // Check if arena is available
-        Arena arena = plugin.getArenaManager().getRandomAvailableArena();
-        if (arena == null) {
+        // Check if there are arenas, one is leased once the duel is accepted
+        if (plugin.getArenaManager().getAvailableArenas().isEmpty()) {
             challenger.sendMessage(ChatColor.RED + "No arenas are available for dueling!");
             return;
         }
         
         // Create rounds duel request
-        RoundsDuelRequest request = new RoundsDuelRequest(challenger, target, kit, arena, targetRounds);
+        RoundsDuelRequest request = new RoundsDuelRequest(challenger, target, kit, targetRounds);
         pendingRoundsRequests.put(target.getUniqueId(), request);
         
         // Send messages
@@ -133,12 +139,13 @@ public class DuelManager {
         }
         
         // Check if players are still available
-        if (isInAnyDuel(challenger) || isInAnyDuel(target)) {
+        if (isInAnyDuel(challenger) || isInAnyDuel(target) || isWaitingForArena(challenger) || isWaitingForArena(target)) {
             target.sendMessage(ChatColor.RED + "One of the players is already in a duel or countdown!");
             return;
         }
         
-        startCountdown(challenger, target, request.getKit(), request.getArena());
+        Kit kit = request.getKit();
+        startInFreeArena(challenger, target, lease -> startCountdown(challenger, target, kit, lease));
     }
     
     public void acceptRoundsDuel(Player target) {
@@ -156,19 +163,115 @@ public class DuelManager {
         }
         
         // Check if players are still available
-        if (isInAnyDuel(challenger) || isInAnyDuel(target)) {
+        if (isInAnyDuel(challenger) || isInAnyDuel(target) || isWaitingForArena(challenger) || isWaitingForArena(target)) {
             target.sendMessage(ChatColor.RED + "One of the players is already in a duel or countdown!");
             return;
         }
         
-        startRoundsCountdown(challenger, target, request.getKit(), request.getArena(), request.getTargetRounds());
+        Kit kit = request.getKit();
+        int targetRounds = request.getTargetRounds();
+        startInFreeArena(challenger, target, lease -> startRoundsCountdown(challenger, target, kit, lease, targetRounds));
     }
     
-    private void startCountdown(Player challenger, Player target, Kit kit, Arena arena) {
+    /**
+     * Leases an arena and starts the duel in it, or queues the duel until an
+     * arena is released. Queued duels are dropped after settings.arena-queue-timeout.
+     */
+    private void startInFreeArena(Player challenger, Player target, Consumer<ArenaPool.Lease> start) {
+        QueuedDuel queued = new QueuedDuel(challenger, target, start);
+        int position = plugin.getArenaManager().getArenaPool().lease(queued);
+        if (position == 0) return;
+        if (position < 0) {
+            target.sendMessage(ChatColor.RED + "One of the players is already in a duel or countdown!");
+            return;
+        }
+        
+        queued.queued = true;
+        queuedDuels.put(challenger.getUniqueId(), queued);
+        queuedDuels.put(target.getUniqueId(), queued);
+        
+        String message = ChatColor.YELLOW + "All arenas are in use, the duel starts once one is free (position " + position + " in the queue).";
+        challenger.sendMessage(message);
+        target.sendMessage(message);
+        
+        long timeoutTicks = plugin.getConfig().getLong("settings.arena-queue-timeout", 120) * 20L;
+        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            if (plugin.getArenaManager().getArenaPool().cancel(queued)) {
+                queued.forget();
+                String timeoutMessage = ChatColor.RED + "No arena became free in time, the duel was cancelled.";
+                if (challenger.isOnline()) challenger.sendMessage(timeoutMessage);
+                if (target.isOnline()) target.sendMessage(timeoutMessage);
+            }
+        }, timeoutTicks);
+    }
+    
+    public boolean isWaitingForArena(Player player) {
+        return queuedDuels.containsKey(player.getUniqueId());
+    }
+    
+    /**
+     * Takes the player's duel out of the arena queue, telling the opponent.
+     */
+    public void leaveArenaQueue(Player player) {
+        QueuedDuel queued = queuedDuels.get(player.getUniqueId());
+        if (queued == null) return;
+        
+        plugin.getArenaManager().getArenaPool().cancel(queued);
+        queued.forget();
+        
+        Player opponent = queued.challenger.equals(player) ? queued.target : queued.challenger;
+        if (opponent.isOnline()) {
+            opponent.sendMessage(ChatColor.RED + player.getName() + " left, the queued duel was cancelled.");
+        }
+    }
+    
+    // A duel start waiting in the arena queue
+    private class QueuedDuel implements ArenaPool.Waiter {
+        
+        private final Player challenger;
+        private final Player target;
+        private final Consumer<ArenaPool.Lease> start;
+        // Set once the duel had to wait, a duel started right away gets no queue messages
+        private boolean queued;
+        
+        QueuedDuel(Player challenger, Player target, Consumer<ArenaPool.Lease> start) {
+            this.challenger = challenger;
+            this.target = target;
+            this.start = start;
+        }
+        
+        @Override
+        public boolean start(ArenaPool.Lease lease) {
+            forget();
+            if (!challenger.isOnline() || !target.isOnline() || isInAnyDuel(challenger) || isInAnyDuel(target)) {
+                if (!queued) return false;
+                
+                String message = ChatColor.RED + "The queued duel was cancelled, a player is no longer available.";
+                if (challenger.isOnline()) challenger.sendMessage(message);
+                if (target.isOnline()) target.sendMessage(message);
+                return false;
+            }
+            
+            start.accept(lease);
+            return true;
+        }
+        
+        void forget() {
+            queuedDuels.remove(challenger.getUniqueId(), this);
+            queuedDuels.remove(target.getUniqueId(), this);
+        }
+    }
+    
+    private void startCountdown(Player challenger, Player target, Kit kit, ArenaPool.Lease lease) {
+        Arena arena = lease.getArena();
+        
         // Add players to countdown set
         playersInCountdown.add(challenger.getUniqueId());
         playersInCountdown.add(target.getUniqueId());
         
+        // Remember what changes in the arena from now on, so only those blocks are put back
+        plugin.getArenaManager().getChangeTracker().startTracking(arena);
+        
         // Save current locations
         savedLocations.put(challenger.getUniqueId(), challenger.getLocation());
         savedLocations.put(target.getUniqueId(), target.getLocation());
@@ -205,6 +308,7 @@ public class DuelManager {
                         restorePlayer(target);
                     }
                     
+                    releaseArena(lease);
                     this.cancel();
                     return;
                 }
@@ -225,18 +329,23 @@ public class DuelManager {
                     playersInCountdown.remove(challenger.getUniqueId());
                     playersInCountdown.remove(target.getUniqueId());
                     
-                    startDuel(challenger, target, kit, arena);
+                    startDuel(challenger, target, kit, lease);
                     this.cancel();
                 }
             }
         }.runTaskTimer(plugin, 0L, 20L); // Run every second
     }
     
-    private void startRoundsCountdown(Player challenger, Player target, Kit kit, Arena arena, int targetRounds) {
+    private void startRoundsCountdown(Player challenger, Player target, Kit kit, ArenaPool.Lease lease, int targetRounds) {
+        Arena arena = lease.getArena();
+        
         // Add players to countdown set
         playersInCountdown.add(challenger.getUniqueId());
         playersInCountdown.add(target.getUniqueId());
         
+        // Remember what changes in the arena from now on, so only those blocks are put back
+        plugin.getArenaManager().getChangeTracker().startTracking(arena);
+        
         // Save current locations
         savedLocations.put(challenger.getUniqueId(), challenger.getLocation());
         savedLocations.put(target.getUniqueId(), target.getLocation());
@@ -273,6 +382,7 @@ public class DuelManager {
                         restorePlayer(target);
                     }
                     
+                    releaseArena(lease);
                     this.cancel();
                     return;
                 }
@@ -293,18 +403,21 @@ public class DuelManager {
                     playersInCountdown.remove(challenger.getUniqueId());
                     playersInCountdown.remove(target.getUniqueId());
                     
-                    startRoundsDuel(challenger, target, kit, arena, targetRounds);
+                    startRoundsDuel(challenger, target, kit, lease, targetRounds);
                     this.cancel();
                 }
             }
         }.runTaskTimer(plugin, 0L, 20L); // Run every second
     }
     
-    private void startDuel(Player challenger, Player target, Kit kit, Arena arena) {
+    private void startDuel(Player challenger, Player target, Kit kit, ArenaPool.Lease lease) {
+        Arena arena = lease.getArena();
+        
         // Create duel
         Duel duel = new Duel(challenger, target, kit, arena);
         activeDuels.put(challenger.getUniqueId(), duel);
         activeDuels.put(target.getUniqueId(), duel);
+        duelLeases.put(duel, lease);
         
         // Prepare players
         preparePlayer(challenger, kit);
@@ -323,11 +436,14 @@ public class DuelManager {
         }
     }
     
-    private void startRoundsDuel(Player challenger, Player target, Kit kit, Arena arena, int targetRounds) {
+    private void startRoundsDuel(Player challenger, Player target, Kit kit, ArenaPool.Lease lease, int targetRounds) {
+        Arena arena = lease.getArena();
+        
         // Create rounds duel
         RoundsDuel roundsDuel = new RoundsDuel(challenger, target, kit, arena, targetRounds);
         activeRoundsDuels.put(challenger.getUniqueId(), roundsDuel);
         activeRoundsDuels.put(target.getUniqueId(), roundsDuel);
+        roundsDuelLeases.put(roundsDuel, lease);
         
         // Prepare players
         preparePlayer(challenger, kit);
@@ -347,9 +463,8 @@ public class DuelManager {
     }
     
     private void preparePlayer(Player player, Kit kit) {
-        // Clear player
-        player.getInventory().clear();
-        player.getInventory().setArmorContents(new ItemStack[4]);
+        // Give kit - replaces main inventory, armor and offhand in one go
+        kit.applyTo(player.getInventory());
         player.getActivePotionEffects().forEach(effect -> player.removePotionEffect(effect.getType()));
         
         // Set health and hunger
@@ -360,25 +475,6 @@ public class DuelManager {
         // Set gamemode
         player.setGameMode(GameMode.SURVIVAL);
         
-        // Give kit - handle main inventory (36 slots)
-        ItemStack[] contents = kit.getContents();
-        if (contents != null) {
-            // Set main inventory (slots 0-35)
-            ItemStack[] mainInventory = new ItemStack[36];
-            System.arraycopy(contents, 0, mainInventory, 0, Math.min(contents.length, 36));
-            player.getInventory().setContents(mainInventory);
-            
-            // Set offhand (slot 36 in our extended array)
-            if (contents.length > 36 && contents[36] != null) {
-                player.getInventory().setItemInOffHand(contents[36]);
-            }
-        }
-        
-        // Give armor
-        if (kit.getArmor() != null) {
-            player.getInventory().setArmorContents(kit.getArmor().clone());
-        }
-        
         // Update inventory
         player.updateInventory();
     }
@@ -423,6 +519,8 @@ public class DuelManager {
         if (opponent != null && opponent.isOnline()) {
             restorePlayer(opponent);
         }
+        
+        releaseArena(duelLeases.remove(duel));
     }
     
     private void endRoundsDuelRound(Player player, boolean died) {
@@ -454,9 +552,11 @@ public class DuelManager {
             Player overallWinner = roundsDuel.getOverallWinner();
             Player overallLoser = overallWinner.equals(roundsDuel.getPlayer1()) ? roundsDuel.getPlayer2() : roundsDuel.getPlayer1();
             
-            // Remove from active duels
+            // Remove from active duels, pending next-round tasks check this
+            roundsDuel.setActive(false);
             activeRoundsDuels.remove(roundsDuel.getPlayer1().getUniqueId());
             activeRoundsDuels.remove(roundsDuel.getPlayer2().getUniqueId());
+            releaseArena(roundsDuelLeases.remove(roundsDuel));
             
             // Send final messages
             String finalMessage = ChatColor.GOLD + "🏆 " + overallWinner.getName() + " won the rounds duel " + roundsDuel.getScoreString() + "! 🏆";
@@ -474,16 +574,27 @@ public class DuelManager {
             restorePlayer(roundsDuel.getPlayer1());
             restorePlayer(roundsDuel.getPlayer2());
         } else {
-            // Regenerate arena if enabled
-            if (roundsDuel.getArena().hasRegeneration()) {
-                plugin.getArenaManager().regenerateArena(roundsDuel.getArena());
-            }
+            // Regenerate arena if enabled, this runs over several ticks
+            CompletableFuture<Void> regeneration = roundsDuel.getArena().hasRegeneration()
+                    ? plugin.getArenaManager().regenerateArena(roundsDuel.getArena())
+                    : CompletableFuture.completedFuture(null);
             
-            // Start next round after a short delay
+            // Start next round after a short delay, once the arena has been rebuilt
             plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                if (roundsDuel.isActive() && roundWinner.isOnline() && roundLoser.isOnline()) {
-                    startNextRound(roundsDuel);
+                if (!regeneration.isDone() && roundWinner.isOnline() && roundLoser.isOnline()) {
+                    String waitMessage = ChatColor.YELLOW + "Rebuilding the arena...";
+                    roundWinner.sendMessage(waitMessage);
+                    roundLoser.sendMessage(waitMessage);
                 }
+                
+                // Completes on the main thread, a failed rebuild was already logged.
+                // The next round also ends the duel if a player left meanwhile.
+                // A duel that has ended since is inactive, then this does nothing
+                regeneration.whenComplete((result, error) -> {
+                    if (roundsDuel.isActive()) {
+                        startNextRound(roundsDuel);
+                    }
+                });
             }, 60L); // 3 second delay
         }
     }
@@ -494,8 +605,10 @@ public class DuelManager {
         
         if (!player1.isOnline() || !player2.isOnline()) {
             // End duel if someone disconnected
+            roundsDuel.setActive(false);
             activeRoundsDuels.remove(player1.getUniqueId());
             activeRoundsDuels.remove(player2.getUniqueId());
+            releaseArena(roundsDuelLeases.remove(roundsDuel));
             if (player1.isOnline()) restorePlayer(player1);
             if (player2.isOnline()) restorePlayer(player2);
             return;
@@ -543,6 +656,34 @@ public class DuelManager {
         }.runTaskTimer(plugin, 0L, 20L);
     }
     
+    /**
+     * Rebuilds the arena and then gives it back to the pool, so the next duel
+     * gets a clean arena. Called once a duel is over or its countdown was
+     * cancelled. The arena stays leased, shown as regenerating, meanwhile.
+     * Only the first call for a lease does anything.
+     */
+    private void releaseArena(ArenaPool.Lease lease) {
+        if (lease == null || !lease.end()) return;
+        
+        Arena arena = lease.getArena();
+        ArenaManager arenaManager = plugin.getArenaManager();
+        // No rebuilding while the plugin shuts down, the restore would never complete
+        if (!arena.hasRegeneration() || !plugin.isEnabled()) {
+            arenaManager.getChangeTracker().stopTracking(arena);
+            arenaManager.getArenaPool().release(lease);
+            return;
+        }
+        
+        // Completes on the main thread, a failed rebuild was already logged
+        arenaManager.regenerateArena(arena).whenComplete((result, error) -> {
+            arenaManager.getChangeTracker().stopTracking(arena);
+            if (error == null) {
+                arenaManager.getChangeTracker().markRestored(arena);
+            }
+            arenaManager.getArenaPool().release(lease);
+        });
+    }
+    
     private void restorePlayer(Player player) {
         // Clear inventory
         player.getInventory().clear();
@@ -616,6 +757,9 @@ public class DuelManager {
     }
     
     public void cleanupAllDuels() {
+        // Drop queued duels first so ending duels doesn't start them
+        plugin.getArenaManager().getArenaPool().clear();
+        
         // End all active duels
         for (UUID playerId : new ArrayList<>(activeDuels.keySet())) {
             Player player = plugin.getServer().getPlayer(playerId);
@@ -636,6 +780,10 @@ public class DuelManager {
             }
         }
         
+        for (RoundsDuel roundsDuel : new HashSet<>(activeRoundsDuels.values())) {
+            releaseArena(roundsDuelLeases.remove(roundsDuel));
+        }
+        
         // Clear countdown players
         for (UUID playerId : new ArrayList<>(playersInCountdown)) {
             Player player = plugin.getServer().getPlayer(playerId);
@@ -651,5 +799,8 @@ public class DuelManager {
         pendingRoundsRequests.clear();
         savedLocations.clear();
         playersInCountdown.clear();
+        queuedDuels.clear();
+        duelLeases.clear();
+        roundsDuelLeases.clear();
     }
 }
\ No newline at end of file
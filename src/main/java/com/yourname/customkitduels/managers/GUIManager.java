@@ -0,0 +1,118 @@
+package com.yourname.customkitduels.managers;
+
+import com.yourname.customkitduels.CustomKitDuels;
+import com.yourname.customkitduels.gui.GUI;
+import com.yourname.customkitduels.gui.MenuSession;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.InventoryHolder;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class GUIManager implements Listener {
+
+    private final CustomKitDuels plugin;
+    private final Map<UUID, GUI> awaitingInput;
+    private final Map<UUID, MenuSession> sessions;
+    private final long sessionIdleMillis;
+
+    public GUIManager(CustomKitDuels plugin) {
+        this.plugin = plugin;
+        // Read from the async chat thread
+        this.awaitingInput = new ConcurrentHashMap<>();
+        this.sessions = new HashMap<>();
+        this.sessionIdleMillis = plugin.getConfig().getInt("settings.gui-session-idle-minutes", 10) * 60_000L;
+
+        // Drop menu sessions nobody has touched for a while
+        plugin.getServer().getScheduler().runTaskTimer(plugin, this::evictIdleSessions, 1200L, 1200L);
+    }
+
+    public MenuSession getSession(Player player) {
+        MenuSession session = sessions.computeIfAbsent(player.getUniqueId(), id -> new MenuSession(plugin, player));
+        session.touch();
+        return session;
+    }
+
+    private void evictIdleSessions() {
+        long cutoff = System.currentTimeMillis() - sessionIdleMillis;
+        Iterator<MenuSession> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getLastUsed() < cutoff) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public void unregisterGUI(GUI gui) {
+        awaitingInput.values().remove(gui);
+    }
+
+    public void awaitInput(Player player, GUI gui) {
+        awaitingInput.put(player.getUniqueId(), gui);
+    }
+
+    public void stopAwaitingInput(Player player) {
+        awaitingInput.remove(player.getUniqueId());
+    }
+
+    public boolean isAwaitingInput(Player player) {
+        return awaitingInput.containsKey(player.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (!(event.getWhoClicked() instanceof Player)) return;
+
+        InventoryHolder holder = event.getInventory().getHolder();
+        if (holder instanceof GUI) {
+            MenuSession session = sessions.get(event.getWhoClicked().getUniqueId());
+            if (session != null) {
+                session.touch();
+            }
+            ((GUI) holder).handleClick(event);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        if (!(event.getPlayer() instanceof Player)) return;
+
+        InventoryHolder holder = event.getInventory().getHolder();
+        if (holder instanceof GUI) {
+            ((GUI) holder).handleClose(event);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPlayerChat(AsyncPlayerChatEvent event) {
+        GUI gui = awaitingInput.get(event.getPlayer().getUniqueId());
+        if (gui != null) {
+            gui.handleChat(event);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        GUI gui = awaitingInput.get(event.getPlayer().getUniqueId());
+        if (gui != null) {
+            gui.handleInteract(event);
+        }
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        awaitingInput.remove(event.getPlayer().getUniqueId());
+        sessions.remove(event.getPlayer().getUniqueId());
+    }
+}
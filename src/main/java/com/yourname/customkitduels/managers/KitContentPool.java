@@ -0,0 +1,70 @@
+package com.yourname.customkitduels.managers;
+
+import com.yourname.customkitduels.data.Kit;
+import com.yourname.customkitduels.data.KitContent;
+import com.yourname.customkitduels.storage.KitCodec;
+
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares one {@link KitContent} between all cached kits with the same items,
+ * found by content hash. Entries are held weakly, so a content is dropped once
+ * no cached kit uses it any more. Safe to use from any thread.
+ */
+public class KitContentPool {
+    
+    private final Map<String, ContentRef> contents = new ConcurrentHashMap<>();
+    private final ReferenceQueue<KitContent> cleared = new ReferenceQueue<>();
+    
+    private static final class ContentRef extends WeakReference<KitContent> {
+        
+        private final String hash;
+        
+        ContentRef(String hash, KitContent content, ReferenceQueue<KitContent> queue) {
+            super(content, queue);
+            this.hash = hash;
+        }
+    }
+    
+    /**
+     * Returns the kit itself if its items are new, or a kit with the same name
+     * that uses the already pooled items.
+     */
+    public Kit intern(Kit kit) throws IOException {
+        expungeCleared();
+        
+        String hash = KitCodec.contentHash(kit.getContent());
+        KitContent[] shared = new KitContent[1];
+        contents.compute(hash, (key, ref) -> {
+            KitContent existing = ref != null ? ref.get() : null;
+            if (existing != null) {
+                shared[0] = existing;
+                return ref;
+            }
+            shared[0] = kit.getContent();
+            return new ContentRef(key, kit.getContent(), cleared);
+        });
+        
+        return shared[0] == kit.getContent() ? kit : new Kit(kit.getName(), kit.getDisplayName(), shared[0]);
+    }
+    
+    private void expungeCleared() {
+        ContentRef ref;
+        while ((ref = (ContentRef) cleared.poll()) != null) {
+            // Only remove the entry if it wasn't replaced since
+            contents.remove(ref.hash, ref);
+        }
+    }
+    
+    /**
+     * The number of distinct kit contents currently pooled.
+     */
+    public int size() {
+        expungeCleared();
+        return contents.size();
+    }
+}
@@ -2,152 +2,353 @@ package com.yourname.customkitduels.managers;
 
 import com.yourname.customkitduels.CustomKitDuels;
 import com.yourname.customkitduels.data.Kit;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
-import org.bukkit.inventory.ItemStack;
+import com.yourname.customkitduels.data.PlayerKits;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
+import com.yourname.customkitduels.storage.BinaryKitStorage;
+import com.yourname.customkitduels.storage.KitHistory;
+import com.yourname.customkitduels.storage.KitMigration;
+import com.yourname.customkitduels.storage.KitRevision;
+import com.yourname.customkitduels.storage.KitStorage;
+import com.yourname.customkitduels.storage.LogKitStorage;
+import com.yourname.customkitduels.storage.PartialKitLoadException;
+import com.yourname.customkitduels.storage.SqliteKitStorage;
+import com.yourname.customkitduels.storage.YamlKitStorage;
 
 import java.io.File;
 import java.io.IOException;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 public class KitManager {
     
+    // How long to wait before reading a player's kits again after a failed read
+    private static final long LOAD_RETRY_MILLIS = 10_000L;
+    
     private final CustomKitDuels plugin;
     private final File kitsFolder;
-    private final Map<UUID, List<Kit>> playerKits;
+    private final Map<UUID, PlayerKits> playerKits;
+    private final Map<UUID, Long> lastAccess;
+    private final Map<UUID, Long> failedLoads;
+    // Players whose stored kits were only partly read, their kits are read-only
+    private final Set<UUID> partialLoads;
+    private final KitStorage storage;
+    private final KitSaveQueue saveQueue;
+    private final KitContentPool contentPool;
+    private final KitValidator validator;
+    private final int maxCachedPlayers;
+    private final long cacheIdleMillis;
     
     public KitManager(CustomKitDuels plugin) {
         this.plugin = plugin;
         this.kitsFolder = new File(plugin.getDataFolder(), "kits");
-        this.playerKits = new HashMap<>();
+        this.playerKits = new ConcurrentHashMap<>();
+        this.lastAccess = new ConcurrentHashMap<>();
+        this.failedLoads = new ConcurrentHashMap<>();
+        this.partialLoads = ConcurrentHashMap.newKeySet();
+        this.maxCachedPlayers = plugin.getConfig().getInt("settings.kit-cache-size", 1000);
+        this.cacheIdleMillis = plugin.getConfig().getInt("settings.kit-cache-idle-minutes", 15) * 60_000L;
+        
+        String storageType = plugin.getConfig().getString("storage.kits", "yaml");
+        KitStorage configuredStorage = createStorage(storageType);
+        if (configuredStorage == null) {
+            plugin.getLogger().warning("Kit storage '" + storageType + "' is not available, using yaml");
+            configuredStorage = new YamlKitStorage(kitsFolder, plugin.getLogger());
+        }
+        this.storage = configuredStorage;
+        this.saveQueue = new KitSaveQueue(plugin, storage);
+        this.contentPool = new KitContentPool();
+        this.validator = new KitValidator(plugin);
         
         if (!kitsFolder.exists()) {
             kitsFolder.mkdirs();
         }
         
-        loadAllKits();
+        // Kits are loaded per player on demand, drop offline players' kits once they go unused
+        plugin.getServer().getScheduler().runTaskTimer(plugin, this::evictIdleKits, 1200L, 1200L);
+    }
+    
+    /**
+     * Loads a player's kits ahead of time. Called from the async pre-login
+     * event so the file is usually parsed before the player can use a kit.
+     */
+    public void preloadPlayerKits(UUID playerId) {
+        lastAccess.put(playerId, System.currentTimeMillis());
+        playerKits.computeIfAbsent(playerId, this::loadPlayerKits);
     }
     
-    private void loadAllKits() {
-        File[] playerFiles = kitsFolder.listFiles((dir, name) -> name.endsWith(".yml"));
-        if (playerFiles == null) return;
+    // Returns the player's kits, reading them from disk if they aren't cached.
+    // Null if they couldn't be read, a failed read is retried after a short while
+    private PlayerKits getLoadedKits(UUID playerId) {
+        long now = System.currentTimeMillis();
+        lastAccess.put(playerId, now);
+        PlayerKits kits = playerKits.get(playerId);
+        if (kits == null) {
+            Long failedAt = failedLoads.get(playerId);
+            if (failedAt != null && now - failedAt < LOAD_RETRY_MILLIS) return null;
+            
+            kits = playerKits.computeIfAbsent(playerId, this::loadPlayerKits);
+        }
+        return kits;
+    }
+    
+    // Like getLoadedKits, for changes: never writes over kits that couldn't be read
+    private PlayerKits getKitsForChange(UUID playerId) throws IOException {
+        PlayerKits kits = getLoadedKits(playerId);
+        if (kits == null) {
+            throw new IOException("Your kits couldn't be loaded, please try again later.");
+        }
+        if (partialLoads.contains(playerId)) {
+            throw new IOException("Some of your kits couldn't be loaded, so your kits can't be changed until that is fixed.");
+        }
+        return kits;
+    }
+    
+    private void evictIdleKits() {
+        long now = System.currentTimeMillis();
+        List<UUID> candidates = new ArrayList<>();
+        failedLoads.values().removeIf(failedAt -> now - failedAt >= LOAD_RETRY_MILLIS);
         
-        for (File file : playerFiles) {
-            try {
-                UUID playerId = UUID.fromString(file.getName().replace(".yml", ""));
-                loadPlayerKits(playerId);
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Invalid kit file: " + file.getName());
+        for (UUID playerId : playerKits.keySet()) {
+            // Online players and players with unwritten saves stay cached
+            if (plugin.getServer().getPlayer(playerId) != null || saveQueue.isPending(playerId)) continue;
+            
+            if (now - lastAccess.getOrDefault(playerId, 0L) > cacheIdleMillis) {
+                evict(playerId);
+            } else {
+                candidates.add(playerId);
+            }
+        }
+        
+        // Still over the limit, drop the least recently used
+        int excess = playerKits.size() - maxCachedPlayers;
+        if (excess > 0) {
+            candidates.sort(Comparator.comparingLong(playerId -> lastAccess.getOrDefault(playerId, 0L)));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                evict(candidates.get(i));
             }
         }
     }
     
-    private void loadPlayerKits(UUID playerId) {
-        File file = new File(kitsFolder, playerId.toString() + ".yml");
-        if (!file.exists()) return;
-        
-        FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-        List<Kit> kits = new ArrayList<>();
+    private void evict(UUID playerId) {
+        playerKits.remove(playerId);
+        lastAccess.remove(playerId);
+        failedLoads.remove(playerId);
+        partialLoads.remove(playerId);
+        plugin.getDebugLogger().trace(Subsystem.KIT, () -> "Evicted cached kits for " + playerId);
+    }
+    
+    /**
+     * Applies a changed banned-items list: later validations use the new list
+     * and cached kits holding newly banned items are fixed and saved. Stored
+     * kits that aren't cached are checked when they're loaded.
+     */
+    public void reloadValidator() {
+        validator.reload();
         
-        for (String kitName : config.getKeys(false)) {
+        for (Map.Entry<UUID, PlayerKits> entry : playerKits.entrySet()) {
+            PlayerKits kits = entry.getValue();
+            List<String> problems = new ArrayList<>();
+            List<Kit> checked = new ArrayList<>();
+            for (Kit kit : kits.asList()) {
+                checked.add(shareContent(validator.recheck(kit, problems)));
+            }
+            if (problems.isEmpty()) continue;
+            
+            // Putting every kit again keeps their order
+            for (Kit kit : checked) {
+                kits.put(kit);
+            }
+            plugin.getLogger().info("Removed newly banned items from the kits of player " + entry.getKey() + ": " + String.join(", ", problems));
+            savePlayerKits(entry.getKey());
+        }
+    }
+    
+    public int getCachedPlayerCount() {
+        return playerKits.size();
+    }
+    
+    /**
+     * The number of distinct kit contents shared by the cached kits.
+     */
+    public int getDistinctContentCount() {
+        return contentPool.size();
+    }
+    
+    private PlayerKits loadPlayerKits(UUID playerId) {
+        try {
+            // Stored kits may be from before a ban or edited by hand, so they're checked too
+            List<Kit> stored;
+            boolean partial = false;
             try {
-                String displayName = config.getString(kitName + ".displayName", kitName);
-                
-                // Load contents with null safety
-                Object contentsObj = config.get(kitName + ".contents");
-                ItemStack[] contents = null;
-                if (contentsObj instanceof ItemStack[]) {
-                    contents = (ItemStack[]) contentsObj;
-                } else if (contentsObj instanceof List) {
-                    @SuppressWarnings("unchecked")
-                    List<ItemStack> contentsList = (List<ItemStack>) contentsObj;
-                    contents = contentsList.toArray(new ItemStack[0]);
-                }
-                
-                // Load armor with null safety
-                Object armorObj = config.get(kitName + ".armor");
-                ItemStack[] armor = null;
-                if (armorObj instanceof ItemStack[]) {
-                    armor = (ItemStack[]) armorObj;
-                } else if (armorObj instanceof List) {
-                    @SuppressWarnings("unchecked")
-                    List<ItemStack> armorList = (List<ItemStack>) armorObj;
-                    armor = armorList.toArray(new ItemStack[0]);
-                }
-                
-                // Ensure arrays are properly sized
-                if (contents == null) {
-                    contents = new ItemStack[37]; // 36 + 1 for offhand
-                } else if (contents.length < 37) {
-                    // Extend array to include offhand slot
-                    ItemStack[] newContents = new ItemStack[37];
-                    System.arraycopy(contents, 0, newContents, 0, Math.min(contents.length, 36));
-                    contents = newContents;
-                }
-                
-                if (armor == null) {
-                    armor = new ItemStack[4];
-                } else if (armor.length != 4) {
-                    // Ensure armor array is exactly 4 slots
-                    ItemStack[] newArmor = new ItemStack[4];
-                    System.arraycopy(armor, 0, newArmor, 0, Math.min(armor.length, 4));
-                    armor = newArmor;
+                stored = storage.load(playerId);
+            } catch (PartialKitLoadException e) {
+                // Usable, but saving would delete the kits that couldn't be read
+                plugin.getLogger().warning("Kits of player " + playerId + " are read-only until their storage is fixed: " + e.getMessage());
+                stored = e.getKits();
+                partial = true;
+            }
+            
+            List<String> problems = new ArrayList<>();
+            List<Kit> loaded = new ArrayList<>();
+            for (Kit kit : stored) {
+                loaded.add(shareContent(validator.validate(kit, problems)));
+            }
+            PlayerKits kits = new PlayerKits(loaded);
+            failedLoads.remove(playerId);
+            if (partial) {
+                partialLoads.add(playerId);
+            } else {
+                partialLoads.remove(playerId);
+            }
+            plugin.getDebugLogger().trace(Subsystem.KIT, () -> "Loaded " + kits.size() + " kits for " + playerId);
+            
+            if (!problems.isEmpty()) {
+                plugin.getLogger().warning("Fixed " + problems.size() + " problems in the kits of player " + playerId + ": " + String.join(", ", problems));
+                // Write the fixed kits back, the player's entry isn't in the cache yet
+                if (!partial) {
+                    saveQueue.submit(playerId, kits.asList());
                 }
-                
-                Kit kit = new Kit(kitName, displayName, contents, armor);
-                kits.add(kit);
-                
-            } catch (Exception e) {
-                plugin.getLogger().warning("Failed to load kit " + kitName + " for player " + playerId + ": " + e.getMessage());
             }
+            return kits;
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to load kits for player " + playerId + ": " + e.getMessage());
+            // Not cached, an empty kit list would replace the stored kits on the next save
+            failedLoads.put(playerId, System.currentTimeMillis());
+            return null;
         }
-        
-        playerKits.put(playerId, kits);
     }
     
+    /**
+     * Queues the player's kits to be written to disk. Kit contents are never
+     * changed once created and the list is replaced on every change, so the
+     * current list can be written as is.
+     */
     public void savePlayerKits(UUID playerId) {
-        File file = new File(kitsFolder, playerId.toString() + ".yml");
-        FileConfiguration config = new YamlConfiguration();
-        
-        List<Kit> kits = playerKits.get(playerId);
-        if (kits == null || kits.isEmpty()) {
-            if (file.exists()) {
-                file.delete();
-            }
-            return;
+        PlayerKits kits = playerKits.get(playerId);
+        if (kits != null && !partialLoads.contains(playerId)) {
+            saveQueue.submit(playerId, kits.asList());
         }
-        
-        for (Kit kit : kits) {
-            String path = kit.getName();
-            config.set(path + ".displayName", kit.getDisplayName());
-            config.set(path + ".contents", kit.getContents());
-            config.set(path + ".armor", kit.getArmor());
+    }
+    
+    /**
+     * Creates the kit storage with the given config name, or null if there
+     * is no such storage or it can't be opened.
+     */
+    public KitStorage createStorage(String type) {
+        switch (type.toLowerCase()) {
+            case "yaml":
+                return new YamlKitStorage(kitsFolder, plugin.getLogger());
+            case "binary":
+                return new BinaryKitStorage(kitsFolder, plugin.getLogger());
+            case "log":
+                return new LogKitStorage(kitsFolder, plugin.getConfig().getInt("storage.kit-history-size", 10), plugin.getLogger());
+            case "sqlite":
+                try {
+                    return new SqliteKitStorage(plugin.getDatabase(), plugin.getLogger());
+                } catch (SQLException e) {
+                    plugin.getLogger().severe("Failed to open the database: " + e.getMessage());
+                    return null;
+                }
+            default:
+                return null;
+        }
+    }
+    
+    public KitStorage getStorage() {
+        return storage;
+    }
+    
+    /**
+     * Copies every player's kits between storages on the kit writer thread,
+     * after any saves already queued, then runs the callback on the main thread.
+     */
+    public void migrateKits(KitStorage source, KitStorage target, Consumer<KitMigration> callback) {
+        KitMigration migration = new KitMigration(source, target, plugin.getLogger());
+        saveQueue.runAfterPendingWrites(() -> {
+            migration.run();
+            plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(migration));
+        });
+    }
+    
+    /**
+     * Whether the kit storage keeps earlier versions of kits.
+     */
+    public boolean hasKitHistory() {
+        return storage instanceof KitHistory;
+    }
+    
+    /**
+     * Reads the stored versions of a kit, newest first, on the kit writer
+     * thread after any queued saves, then runs the callback on the main thread.
+     * The list is empty if the storage keeps no history or it can't be read.
+     */
+    public void getKitRevisions(UUID playerId, String kitName, Consumer<List<KitRevision>> callback) {
+        if (!(storage instanceof KitHistory)) {
+            callback.accept(Collections.emptyList());
+            return;
         }
         
+        KitHistory history = (KitHistory) storage;
+        saveQueue.runAfterPendingWrites(() -> {
+            List<KitRevision> revisions;
+            try {
+                revisions = history.getRevisions(playerId, kitName);
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to read the history of kit " + kitName + " for player " + playerId + ": " + e.getMessage());
+                revisions = Collections.emptyList();
+            }
+            
+            List<KitRevision> result = revisions;
+            plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(result));
+        });
+    }
+    
+    public KitSaveQueue getSaveQueue() {
+        return saveQueue;
+    }
+    
+    /**
+     * Writes any queued kit saves. Called when the plugin is disabled.
+     */
+    public void shutdown() {
+        saveQueue.flush();
+    }
+    
+    // Swaps the kit's items for an identical pooled copy if there is one
+    private Kit shareContent(Kit kit) {
         try {
-            config.save(file);
+            return contentPool.intern(kit);
         } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save kits for player " + playerId + ": " + e.getMessage());
+            // Still usable, it just won't share its items with other kits
+            plugin.getLogger().warning("Failed to hash kit " + kit.getName() + ": " + e.getMessage());
+            return kit;
         }
     }
     
-    public void saveKit(UUID playerId, Kit kit) {
-        List<Kit> kits = playerKits.computeIfAbsent(playerId, k -> new ArrayList<>());
-        
-        // Remove existing kit with same name
-        kits.removeIf(existingKit -> existingKit.getName().equals(kit.getName()));
+    /**
+     * Validates and saves a kit, replacing any kit with the same name. Returns
+     * what had to be changed to make the kit valid.
+     *
+     * @throws IOException if the player's stored kits couldn't be read, nothing is saved then
+     */
+    public List<String> saveKit(UUID playerId, Kit kit) throws IOException {
+        PlayerKits kits = getKitsForChange(playerId);
+        List<String> problems = new ArrayList<>();
+        Kit validated = validator.validate(kit, problems);
         
-        // Add new kit
-        kits.add(kit);
+        kits.put(shareContent(validated));
         
         savePlayerKits(playerId);
+        return problems;
     }
     
-    public boolean deleteKit(UUID playerId, String kitName) {
-        List<Kit> kits = playerKits.get(playerId);
-        if (kits == null) return false;
-        
-        boolean removed = kits.removeIf(kit -> kit.getName().equals(kitName));
+    /**
+     * @throws IOException if the player's stored kits couldn't be read
+     */
+    public boolean deleteKit(UUID playerId, String kitName) throws IOException {
+        boolean removed = getKitsForChange(playerId).remove(kitName);
         if (removed) {
             savePlayerKits(playerId);
         }
@@ -155,21 +356,35 @@ public class KitManager {
         return removed;
     }
     
+    /**
+     * Finds a player's kit by name, ignoring case.
+     */
     public Kit getKit(UUID playerId, String kitName) {
-        List<Kit> kits = playerKits.get(playerId);
-        if (kits == null) return null;
-        
-        return kits.stream()
-                .filter(kit -> kit.getName().equals(kitName))
-                .findFirst()
-                .orElse(null);
+        PlayerKits kits = getLoadedKits(playerId);
+        return kits != null ? kits.get(kitName) : null;
     }
     
+    /**
+     * The player's kits in the order they were saved, as a read-only list.
+     * Empty while the kits can't be read.
+     */
     public List<Kit> getPlayerKits(UUID playerId) {
-        return playerKits.getOrDefault(playerId, new ArrayList<>());
+        PlayerKits kits = getLoadedKits(playerId);
+        return kits != null ? kits.asList() : Collections.emptyList();
     }
     
     public boolean hasKit(UUID playerId, String kitName) {
-        return getKit(playerId, kitName) != null;
+        PlayerKits kits = getLoadedKits(playerId);
+        return kits != null && kits.contains(kitName);
+    }
+    
+    /**
+     * Checks that the player's kits can be changed, which needs all of their
+     * stored kits to have been read.
+     *
+     * @throws IOException explaining to the player why not
+     */
+    public void checkKitsChangeable(UUID playerId) throws IOException {
+        getKitsForChange(playerId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.yourname.customkitduels.managers;
+
+import com.yourname.customkitduels.CustomKitDuels;
+import com.yourname.customkitduels.data.Kit;
+import com.yourname.customkitduels.storage.KitStorage;
+import com.yourname.customkitduels.utils.DebugLogger.Subsystem;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes player kits to storage on a background thread. Only the latest snapshot per
+ * player is kept, so saving the same player several times before the writer
+ * gets to it results in a single write.
+ */
+public class KitSaveQueue {
+
+    private final CustomKitDuels plugin;
+    private final KitStorage storage;
+    private final Map<UUID, List<Kit>> pending = new ConcurrentHashMap<>();
+    private final Set<UUID> writing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong totalWriteNanos = new AtomicLong();
+    private final AtomicLong maxWriteNanos = new AtomicLong();
+
+    KitSaveQueue(CustomKitDuels plugin, KitStorage storage) {
+        this.plugin = plugin;
+        this.storage = storage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CustomKitDuels-KitWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a snapshot of a player's kits. The snapshot must not be modified
+     * afterwards; an empty snapshot removes the player's file.
+     */
+    public void submit(UUID playerId, List<Kit> kits) {
+        if (pending.put(playerId, kits) != null) {
+            // A write for this player is already queued and will pick up the new snapshot
+            coalesced.incrementAndGet();
+            return;
+        }
+
+        try {
+            executor.execute(() -> drain(playerId));
+        } catch (RejectedExecutionException e) {
+            // Shutting down, write on the calling thread instead
+            drain(playerId);
+        }
+    }
+
+    private void drain(UUID playerId) {
+        // Mark the write before taking the snapshot so isPending never misses it
+        writing.add(playerId);
+        List<Kit> kits = pending.remove(playerId);
+        if (kits == null) {
+            writing.remove(playerId);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            storage.save(playerId, kits);
+            long elapsed = System.nanoTime() - start;
+            written.incrementAndGet();
+            totalWriteNanos.addAndGet(elapsed);
+            maxWriteNanos.accumulateAndGet(elapsed, Math::max);
+            plugin.getDebugLogger().trace(Subsystem.KIT, () -> "Wrote " + kits.size() + " kits for " + playerId + " in " + (elapsed / 1000) + "us");
+        } catch (IOException e) {
+            failed.incrementAndGet();
+            plugin.getLogger().severe("Failed to save kits for player " + playerId + ": " + e.getMessage());
+        } finally {
+            writing.remove(playerId);
+        }
+    }
+
+    /**
+     * Runs a task on the writer thread once the writes queued so far are done.
+     */
+    public void runAfterPendingWrites(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Stops the writer thread after it has finished the queued writes. Anything
+     * it didn't get to in time is written on the calling thread.
+     */
+    public void flush() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Kit writer did not finish in time, saving remaining kits directly");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        for (UUID playerId : pending.keySet()) {
+            drain(playerId);
+        }
+    }
+
+    /**
+     * Whether a save for the player is queued or being written, meaning the
+     * file on disk may not reflect their latest kits yet.
+     */
+    public boolean isPending(UUID playerId) {
+        return pending.containsKey(playerId) || writing.contains(playerId);
+    }
+
+    public int getQueueDepth() {
+        return pending.size();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public double getAverageWriteMillis() {
+        long count = written.get();
+        return count > 0 ? totalWriteNanos.get() / (count * 1_000_000.0) : 0.0;
+    }
+
+    public double getMaxWriteMillis() {
+        return maxWriteNanos.get() / 1_000_000.0;
+    }
+}
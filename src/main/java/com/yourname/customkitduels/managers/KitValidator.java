@@ -0,0 +1,170 @@
+package com.yourname.customkitduels.managers;
+
+import com.yourname.customkitduels.CustomKitDuels;
+import com.yourname.customkitduels.data.Kit;
+import com.yourname.customkitduels.data.KitContent;
+import com.yourname.customkitduels.utils.DisplayNames;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.EnchantmentStorageMeta;
+
+import java.util.*;
+
+/**
+ * Checks kits before they are cached and fixes anything a duel shouldn't get:
+ * wrongly sized arrays, stacks over the item's limit, enchantments above their
+ * maximum level and items banned in the config. Kits that pass are marked as
+ * validated, so they aren't checked again and the duel code can use them as is.
+ */
+public class KitValidator {
+    
+    // 36 main slots plus the offhand
+    private static final int CONTENT_SLOTS = 37;
+    private static final int ARMOR_SLOTS = 4;
+    
+    private final CustomKitDuels plugin;
+    // Replaced as a whole on reload, kits are also validated while loading off the main thread
+    private volatile Set<Material> bannedItems;
+    
+    public KitValidator(CustomKitDuels plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+    
+    /**
+     * Reads settings.banned-items from the config again.
+     */
+    public void reload() {
+        Set<Material> banned = EnumSet.noneOf(Material.class);
+        
+        for (String name : plugin.getConfig().getStringList("settings.banned-items")) {
+            Material material = Material.matchMaterial(name);
+            if (material == null) {
+                plugin.getLogger().warning("Unknown material in banned-items: " + name);
+                continue;
+            }
+            banned.add(material);
+        }
+        
+        this.bannedItems = banned;
+    }
+    
+    /**
+     * Returns a validated copy of the kit, or the kit itself if it was already
+     * validated. Every change made is described in problems.
+     */
+    public Kit validate(Kit kit, List<String> problems) {
+        if (kit.getContent().isValidated()) return kit;
+        
+        ItemStack[] contents = sanitize(kit.getContents(), CONTENT_SLOTS, "contents", problems);
+        ItemStack[] armor = sanitize(kit.getArmor(), ARMOR_SLOTS, "armor", problems);
+        
+        return new Kit(kit.getName(), kit.getDisplayName(), new KitContent(contents, armor, true));
+    }
+    
+    /**
+     * Validates the kit again if it holds items banned since it was validated,
+     * otherwise returns the kit itself.
+     */
+    public Kit recheck(Kit kit, List<String> problems) {
+        if (!hasBannedItems(kit.getContents()) && !hasBannedItems(kit.getArmor())) return kit;
+        
+        return validate(new Kit(kit.getName(), kit.getDisplayName(), new KitContent(kit.getContents(), kit.getArmor(), false)), problems);
+    }
+    
+    private boolean hasBannedItems(ItemStack[] items) {
+        Set<Material> banned = bannedItems;
+        for (ItemStack item : items) {
+            if (item != null && banned.contains(item.getType())) return true;
+        }
+        return false;
+    }
+    
+    private ItemStack[] sanitize(ItemStack[] items, int size, String section, List<String> problems) {
+        ItemStack[] result = new ItemStack[size];
+        
+        for (int i = 0; i < items.length; i++) {
+            ItemStack item = items[i];
+            if (item == null || item.getType().isAir()) continue;
+            
+            if (i >= size) {
+                problems.add("Removed " + DisplayNames.material(item.getType()) + " outside the " + section + " slots");
+                continue;
+            }
+            result[i] = sanitize(item, problems);
+        }
+        
+        return result;
+    }
+    
+    private ItemStack sanitize(ItemStack item, List<String> problems) {
+        String name = DisplayNames.material(item.getType());
+        
+        if (bannedItems.contains(item.getType())) {
+            problems.add("Removed banned item " + name);
+            return null;
+        }
+        
+        ItemStack copy = item.clone();
+        
+        int maxStackSize = copy.getMaxStackSize();
+        if (copy.getAmount() > maxStackSize) {
+            problems.add("Reduced " + name + " from " + copy.getAmount() + " to " + maxStackSize);
+            copy.setAmount(maxStackSize);
+        } else if (copy.getAmount() < 1) {
+            copy.setAmount(1);
+        }
+        
+        for (Map.Entry<Enchantment, Integer> entry : copy.getEnchantments().entrySet()) {
+            Enchantment enchantment = entry.getKey();
+            int level = entry.getValue();
+            int allowed = allowedLevel(enchantment, level, name, problems);
+            
+            if (allowed == 0) {
+                copy.removeEnchantment(enchantment);
+            } else if (allowed != level) {
+                copy.addUnsafeEnchantment(enchantment, allowed);
+            }
+        }
+        
+        // Enchanted books keep their enchantments apart, they'd get around the checks otherwise
+        if (copy.getItemMeta() instanceof EnchantmentStorageMeta) {
+            EnchantmentStorageMeta book = (EnchantmentStorageMeta) copy.getItemMeta();
+            boolean changed = false;
+            
+            for (Map.Entry<Enchantment, Integer> entry : new HashMap<>(book.getStoredEnchants()).entrySet()) {
+                Enchantment enchantment = entry.getKey();
+                int level = entry.getValue();
+                int allowed = allowedLevel(enchantment, level, name, problems);
+                
+                if (allowed == 0) {
+                    book.removeStoredEnchant(enchantment);
+                    changed = true;
+                } else if (allowed != level) {
+                    book.addStoredEnchant(enchantment, allowed, true);
+                    changed = true;
+                }
+            }
+            
+            if (changed) {
+                copy.setItemMeta(book);
+            }
+        }
+        
+        return copy;
+    }
+    
+    // The level the enchantment may keep, 0 if it has to be removed
+    private int allowedLevel(Enchantment enchantment, int level, String name, List<String> problems) {
+        if (level > enchantment.getMaxLevel()) {
+            problems.add("Lowered " + DisplayNames.enchantment(enchantment) + " on " + name + " from " + level + " to " + enchantment.getMaxLevel());
+            return enchantment.getMaxLevel();
+        }
+        if (level < 1) {
+            problems.add("Removed " + DisplayNames.enchantment(enchantment) + " level " + level + " from " + name);
+            return 0;
+        }
+        return level;
+    }
+}
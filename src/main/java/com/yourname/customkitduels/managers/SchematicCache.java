@@ -0,0 +1,125 @@
+package com.yourname.customkitduels.managers;
+
+import com.yourname.customkitduels.data.ArenaBlocks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decoded arena schematics, so each schematic file is only read once. Bounded
+ * by settings.schematic-cache-mb, dropping the least recently used schematics
+ * first. A cached schematic is only used while its file is unchanged.
+ * Safe to use from any thread.
+ */
+public class SchematicCache {
+    
+    /**
+     * Reads a schematic file. Called without holding the cache lock.
+     */
+    public interface Loader {
+        ArenaBlocks load(File file) throws IOException;
+    }
+    
+    private static final class Entry {
+        
+        private final ArenaBlocks blocks;
+        private final long lastModified;
+        private final long fileLength;
+        private final long size;
+        
+        Entry(ArenaBlocks blocks, long lastModified, long fileLength) {
+            this.blocks = blocks;
+            this.lastModified = lastModified;
+            this.fileLength = fileLength;
+            this.size = blocks.getEstimatedSize();
+        }
+    }
+    
+    private final long maxBytes;
+    // Access ordered, so iteration starts at the least recently used
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes;
+    private long hits;
+    private long misses;
+    
+    SchematicCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+    
+    /**
+     * Returns the cached blocks for a schematic file, reading it with the loader
+     * if it isn't cached or has changed since it was read.
+     */
+    public ArenaBlocks get(File file, Loader loader) throws IOException {
+        String key = file.getName();
+        // Taken before reading, so a file rewritten while it's read is read again next time
+        long lastModified = file.lastModified();
+        long fileLength = file.length();
+        
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.lastModified == lastModified && entry.fileLength == fileLength) {
+                hits++;
+                return entry.blocks;
+            }
+            misses++;
+        }
+        
+        ArenaBlocks blocks = loader.load(file);
+        put(key, new Entry(blocks, lastModified, fileLength));
+        return blocks;
+    }
+    
+    private synchronized void put(String key, Entry entry) {
+        remove(key);
+        
+        // Too big to ever fit, don't push everything else out for it
+        if (entry.size > maxBytes) return;
+        
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (usedBytes + entry.size > maxBytes && iterator.hasNext()) {
+            usedBytes -= iterator.next().size;
+            iterator.remove();
+        }
+        
+        entries.put(key, entry);
+        usedBytes += entry.size;
+    }
+    
+    /**
+     * Drops a schematic file from the cache, after it was rewritten or deleted.
+     */
+    public synchronized void invalidate(File file) {
+        remove(file.getName());
+    }
+    
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            usedBytes -= removed.size;
+        }
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+    
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+    
+    public synchronized long getHits() {
+        return hits;
+    }
+    
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
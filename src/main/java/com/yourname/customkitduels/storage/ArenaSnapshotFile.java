@@ -0,0 +1,154 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.ArenaBlocks;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The plugin's own arena snapshot files, used to rebuild arenas without
+ * WorldEdit. A snapshot holds the region's size, its offset from the arena's
+ * first position, the block palette and the blocks in {@link ArenaBlocks}
+ * order as runs of equal palette indexes, since arenas are mostly large areas
+ * of the same block.
+ *
+ * Only block states are stored. Block entity data such as chest contents,
+ * sign text and banner patterns is not, so those blocks come back empty;
+ * arenas that need it should be saved as WorldEdit schematics.
+ *
+ * File layout: magic and format version, then the rest deflate compressed.
+ */
+public final class ArenaSnapshotFile {
+
+    private static final int MAGIC = 0x434B4453; // "CKDS"
+    private static final int FORMAT_VERSION = 1;
+    // Far more block states than an arena can hold
+    private static final int MAX_PALETTE_SIZE = 65536;
+
+    private ArenaSnapshotFile() {
+    }
+
+    public static void write(File file, ArenaBlocks blocks) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(bytes);
+        header.writeInt(MAGIC);
+        header.writeByte(FORMAT_VERSION);
+        header.flush();
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater));
+            out.writeInt(blocks.getWidth());
+            out.writeInt(blocks.getHeight());
+            out.writeInt(blocks.getLength());
+            out.writeInt(blocks.getOffsetX());
+            out.writeInt(blocks.getOffsetY());
+            out.writeInt(blocks.getOffsetZ());
+
+            String[] palette = blocks.getPalette();
+            out.writeInt(palette.length);
+            for (String block : palette) {
+                out.writeUTF(block);
+            }
+
+            int count = blocks.getBlockCount();
+            int i = 0;
+            while (i < count) {
+                int block = blocks.getBlock(i);
+                int run = 1;
+                while (i + run < count && blocks.getBlock(i + run) == block) {
+                    run++;
+                }
+                writeVarInt(out, run);
+                writeVarInt(out, block);
+                i += run;
+            }
+            out.close();
+        } finally {
+            deflater.end();
+        }
+
+        StorageFiles.writeAtomically(file.toPath(), bytes.toByteArray());
+    }
+
+    /**
+     * @param maxBlocks the most blocks the snapshot may hold, files claiming
+     *                  more are rejected before anything is allocated
+     */
+    public static ArenaBlocks read(File file, long maxBlocks) throws IOException {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            DataInputStream header = new DataInputStream(stream);
+            if (header.readInt() != MAGIC) {
+                throw new IOException("Not an arena snapshot: " + file.getName());
+            }
+            int version = header.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported arena snapshot version " + version + " in " + file.getName());
+            }
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(stream)));
+            int width = in.readInt();
+            int height = in.readInt();
+            int length = in.readInt();
+            int offsetX = in.readInt();
+            int offsetY = in.readInt();
+            int offsetZ = in.readInt();
+
+            long count = (long) width * height * length;
+            if (width <= 0 || height <= 0 || length <= 0 || count > Math.min(maxBlocks, Integer.MAX_VALUE)) {
+                throw new IOException("Invalid arena snapshot size " + width + "x" + height + "x" + length + " in " + file.getName());
+            }
+
+            int paletteSize = in.readInt();
+            if (paletteSize <= 0 || paletteSize > Math.min(count, MAX_PALETTE_SIZE)) {
+                throw new IOException("Invalid palette size " + paletteSize + " in " + file.getName());
+            }
+            String[] palette = new String[paletteSize];
+            for (int i = 0; i < palette.length; i++) {
+                palette[i] = in.readUTF();
+            }
+
+            int[] blocks = new int[(int) count];
+            int i = 0;
+            while (i < blocks.length) {
+                int run = readVarInt(in);
+                int block = readVarInt(in);
+                if (run <= 0 || run > blocks.length - i || block < 0 || block >= palette.length) {
+                    throw new IOException("Corrupt block data in " + file.getName());
+                }
+                Arrays.fill(blocks, i, i + run, block);
+                i += run;
+            }
+
+            return new ArenaBlocks(width, height, length, offsetX, offsetY, offsetZ, palette, blocks);
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Varint too long");
+    }
+}
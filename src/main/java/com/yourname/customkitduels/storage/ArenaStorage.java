@@ -0,0 +1,28 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Arena;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Where arena definitions are kept. Schematics are not part of this and stay
+ * in the schematics folder.
+ */
+public interface ArenaStorage {
+
+    /**
+     * Name used for this storage in config.yml.
+     */
+    String getName();
+
+    /**
+     * Reads every arena without resolving worlds, so it may be called off the
+     * main thread. Arenas that can't be read are logged and skipped.
+     */
+    List<StoredArena> loadAll() throws IOException;
+
+    void save(Arena arena) throws IOException;
+
+    void delete(String name) throws IOException;
+}
@@ -0,0 +1,114 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Kit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Stores each player's kits in kits/<uuid>.dat in a compact binary format.
+ *
+ * Each kit is a length-prefixed record, so one unreadable kit doesn't prevent
+ * the player's other kits from loading.
+ *
+ * File layout: magic, format version, kit count, then per kit the record
+ * length followed by name, display name, contents and armor.
+ */
+public class BinaryKitStorage implements KitStorage {
+
+    private static final int MAGIC = 0x434B444B; // "CKDK"
+    private static final int FORMAT_VERSION = 1;
+
+    private final File folder;
+    private final Logger logger;
+
+    public BinaryKitStorage(File folder, Logger logger) {
+        this.folder = folder;
+        this.logger = logger;
+    }
+
+    @Override
+    public String getName() {
+        return "binary";
+    }
+
+    @Override
+    public List<Kit> load(UUID playerId) throws IOException {
+        List<Kit> kits = new ArrayList<>();
+        File file = new File(folder, playerId.toString() + ".dat");
+        if (!file.exists()) return kits;
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a kit file: " + file.getName());
+        }
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported kit file version " + version + " in " + file.getName());
+        }
+
+        int count = in.readInt();
+        int failed = 0;
+        for (int i = 0; i < count; i++) {
+            // A bad length means the records after it can't be found either
+            int length = in.available() >= 4 ? in.readInt() : -1;
+            if (length < 0 || length > in.available()) {
+                logger.warning("Kit file " + file.getName() + " is cut short or corrupt after " + i + " of " + count + " kits");
+                failed += count - i;
+                break;
+            }
+            byte[] record = new byte[length];
+            in.readFully(record);
+            try {
+                kits.add(KitCodec.decode(record));
+            } catch (Exception e) {
+                logger.warning("Failed to load kit " + (i + 1) + " for player " + playerId + ": " + e.getMessage());
+                failed++;
+            }
+        }
+
+        if (failed > 0) {
+            throw new PartialKitLoadException(failed + " of " + count + " kits in " + file.getName() + " couldn't be read", kits);
+        }
+        return kits;
+    }
+
+    @Override
+    public void save(UUID playerId, List<Kit> kits) throws IOException {
+        File file = new File(folder, playerId.toString() + ".dat");
+        if (kits.isEmpty()) {
+            Files.deleteIfExists(file.toPath());
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeInt(kits.size());
+
+        for (Kit kit : kits) {
+            byte[] record = KitCodec.encode(kit);
+            out.writeInt(record.length);
+            out.write(record);
+        }
+
+        out.flush();
+        StorageFiles.writeAtomically(file.toPath(), bytes.toByteArray());
+    }
+
+    @Override
+    public Set<UUID> listPlayers() {
+        return StorageFiles.listPlayers(folder, ".dat");
+    }
+}
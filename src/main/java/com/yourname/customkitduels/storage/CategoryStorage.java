@@ -0,0 +1,29 @@
+package com.yourname.customkitduels.storage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Where the item categories offered in the kit editor are kept. Categories are
+ * stored as ordered lists of material names.
+ */
+public interface CategoryStorage {
+
+    /**
+     * Name used for this storage in config.yml.
+     */
+    String getName();
+
+    /**
+     * Names of every stored category, in upper case.
+     */
+    Set<String> listCategories() throws IOException;
+
+    /**
+     * The material names in a category, or null if the category isn't stored.
+     */
+    List<String> load(String category) throws IOException;
+
+    void save(String category, List<String> materials) throws IOException;
+}
@@ -0,0 +1,268 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Kit;
+import com.yourname.customkitduels.data.KitContent;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+import org.bukkit.inventory.ItemStack;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary encoding of a single kit, shared by the binary and SQLite storages.
+ *
+ * Items are written as the same data Bukkit puts in YAML, so nothing is lost
+ * converting between storages, but as tagged binary values instead of text.
+ */
+public final class KitCodec {
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_STRING = 1;
+    private static final int TAG_INT = 2;
+    private static final int TAG_LONG = 3;
+    private static final int TAG_DOUBLE = 4;
+    private static final int TAG_FLOAT = 5;
+    private static final int TAG_SHORT = 6;
+    private static final int TAG_BYTE = 7;
+    private static final int TAG_BOOLEAN = 8;
+    private static final int TAG_LIST = 9;
+    private static final int TAG_MAP = 10;
+
+    // Inventory, armor and offhand slots, more than any kit can hold
+    private static final int MAX_ITEMS = 41;
+
+    private KitCodec() {
+    }
+
+    static byte[] encode(Kit kit) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writeKit(new DataOutputStream(bytes), kit);
+        return bytes.toByteArray();
+    }
+
+    static Kit decode(byte[] data) throws IOException {
+        return readKit(new DataInputStream(new ByteArrayInputStream(data)));
+    }
+
+    /**
+     * Encodes only the items of a kit, without its name.
+     */
+    static byte[] encodeContent(KitContent content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeItems(out, content.getContents());
+        writeItems(out, content.getArmor());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static KitContent decodeContent(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        ItemStack[] contents = readItems(in);
+        ItemStack[] armor = readItems(in);
+        return new KitContent(contents, armor);
+    }
+
+    /**
+     * SHA-256 of the encoded items, as hex. Kits with the same items in the
+     * same slots get the same hash.
+     */
+    public static String contentHash(byte[] encodedContent) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(encodedContent));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM has to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String contentHash(KitContent content) throws IOException {
+        return contentHash(encodeContent(content));
+    }
+
+    private static void writeKit(DataOutputStream out, Kit kit) throws IOException {
+        writeString(out, kit.getName());
+        writeString(out, kit.getDisplayName());
+        writeItems(out, kit.getContents());
+        writeItems(out, kit.getArmor());
+        out.flush();
+    }
+
+    private static Kit readKit(DataInputStream in) throws IOException {
+        String name = readString(in);
+        String displayName = readString(in);
+        ItemStack[] contents = readItems(in);
+        ItemStack[] armor = readItems(in);
+        return new Kit(name, displayName, contents, armor);
+    }
+
+    private static void writeItems(DataOutputStream out, ItemStack[] items) throws IOException {
+        out.writeInt(items.length);
+        for (ItemStack item : items) {
+            if (item == null) {
+                out.writeByte(TAG_NULL);
+            } else {
+                writeMap(out, item.serialize());
+            }
+        }
+    }
+
+    private static ItemStack[] readItems(DataInputStream in) throws IOException {
+        ItemStack[] items = new ItemStack[readLength(in, MAX_ITEMS, "item count")];
+        for (int i = 0; i < items.length; i++) {
+            int tag = in.readUnsignedByte();
+            if (tag == TAG_MAP) {
+                items[i] = ItemStack.deserialize(readMapEntries(in));
+            } else if (tag != TAG_NULL) {
+                throw new IOException("Unexpected tag " + tag + " for item");
+            }
+        }
+        return items;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TAG_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TAG_INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TAG_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TAG_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TAG_SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(TAG_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+            writeMap(out, map);
+        } else if (value instanceof ConfigurationSerializable) {
+            // Same shape YAML uses: the object's fields plus its type alias
+            ConfigurationSerializable serializable = (ConfigurationSerializable) value;
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put(ConfigurationSerialization.SERIALIZED_TYPE_KEY, ConfigurationSerialization.getAlias(serializable.getClass()));
+            map.putAll(serializable.serialize());
+            writeMap(out, map);
+        } else {
+            throw new IOException("Can't store value of type " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return readString(in);
+            case TAG_INT:
+                return in.readInt();
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_FLOAT:
+                return in.readFloat();
+            case TAG_SHORT:
+                return in.readShort();
+            case TAG_BYTE:
+                return in.readByte();
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_LIST:
+                int size = readLength(in, in.available(), "list size");
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            case TAG_MAP:
+                Map<String, Object> map = readMapEntries(in);
+                // Maps with a type alias are turned back into their objects, like YAML does
+                if (map.containsKey(ConfigurationSerialization.SERIALIZED_TYPE_KEY)) {
+                    return ConfigurationSerialization.deserializeObject(map);
+                }
+                return map;
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        out.writeByte(TAG_MAP);
+        out.writeInt(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMapEntries(DataInputStream in) throws IOException {
+        int size = readLength(in, in.available(), "map size");
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            map.put(key, readValue(in));
+        }
+        return map;
+    }
+
+    // Length-prefixed UTF-8, writeUTF would cap lore lines at 64KB
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in, in.available(), "string length")];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Data is always decoded from memory, so available() is the bytes left and
+    // every element takes at least one, which bounds lengths in corrupt data
+    private static int readLength(DataInputStream in, int max, String what) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > max || length > in.available()) {
+            throw new IOException("Invalid " + what + " " + length);
+        }
+        return length;
+    }
+}
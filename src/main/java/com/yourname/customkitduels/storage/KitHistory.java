@@ -0,0 +1,17 @@
+package com.yourname.customkitduels.storage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implemented by kit storages that keep earlier versions of kits.
+ */
+public interface KitHistory {
+
+    /**
+     * The stored versions of a player's kit, newest first. The kit name is
+     * matched ignoring case. Empty if the kit has no stored versions.
+     */
+    List<KitRevision> getRevisions(UUID playerId, String kitName) throws IOException;
+}
@@ -0,0 +1,102 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Kit;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Copies every player's kits from one storage to another. Each player's kits
+ * are read back from the target and compared before they count as migrated.
+ * The source is never modified.
+ */
+public class KitMigration implements Runnable {
+
+    private final KitStorage source;
+    private final KitStorage target;
+    private final Logger logger;
+
+    private int playersMigrated;
+    private int kitsMigrated;
+    private int failures;
+    private long elapsedMillis;
+
+    public KitMigration(KitStorage source, KitStorage target, Logger logger) {
+        this.source = source;
+        this.target = target;
+        this.logger = logger;
+    }
+
+    @Override
+    public void run() {
+        long start = System.currentTimeMillis();
+
+        Set<UUID> players;
+        try {
+            players = source.listPlayers();
+        } catch (IOException e) {
+            logger.severe("Failed to list kits in " + source.getName() + " storage: " + e.getMessage());
+            failures++;
+            return;
+        }
+
+        for (UUID playerId : players) {
+            try {
+                List<Kit> kits = source.load(playerId);
+                if (kits.isEmpty()) continue;
+
+                target.save(playerId, kits);
+
+                if (!sameKits(kits, target.load(playerId))) {
+                    logger.warning("Kits for player " + playerId + " changed while migrating to " + target.getName() + " storage");
+                    failures++;
+                    continue;
+                }
+
+                playersMigrated++;
+                kitsMigrated += kits.size();
+            } catch (IOException e) {
+                logger.warning("Failed to migrate kits for player " + playerId + ": " + e.getMessage());
+                failures++;
+            }
+        }
+
+        elapsedMillis = System.currentTimeMillis() - start;
+        logger.info("Migrated " + kitsMigrated + " kits for " + playersMigrated + " players from " + source.getName() +
+                " to " + target.getName() + " storage in " + elapsedMillis + "ms (" + failures + " failed)");
+    }
+
+    private boolean sameKits(List<Kit> expected, List<Kit> actual) {
+        if (expected.size() != actual.size()) return false;
+
+        for (int i = 0; i < expected.size(); i++) {
+            Kit a = expected.get(i);
+            Kit b = actual.get(i);
+            if (!a.getName().equals(b.getName()) || !a.getDisplayName().equals(b.getDisplayName())
+                    || !Arrays.equals(a.getContents(), b.getContents()) || !Arrays.equals(a.getArmor(), b.getArmor())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getPlayersMigrated() {
+        return playersMigrated;
+    }
+
+    public int getKitsMigrated() {
+        return kitsMigrated;
+    }
+
+    public int getFailures() {
+        return failures;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
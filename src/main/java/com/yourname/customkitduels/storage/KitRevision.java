@@ -0,0 +1,34 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Kit;
+
+/**
+ * One stored version of a kit.
+ */
+public class KitRevision {
+
+    private final long revision;
+    private final long timestamp;
+    private final Kit kit;
+
+    public KitRevision(long revision, long timestamp, Kit kit) {
+        this.revision = revision;
+        this.timestamp = timestamp;
+        this.kit = kit;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * When this version was saved, in epoch milliseconds.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public Kit getKit() {
+        return kit;
+    }
+}
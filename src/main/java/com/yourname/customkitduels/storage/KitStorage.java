@@ -0,0 +1,38 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Kit;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Where player kits are kept. Implementations may be called from the kit
+ * writer thread and the async pre-login thread, so they must not touch the
+ * world or other main-thread state.
+ */
+public interface KitStorage {
+
+    /**
+     * Name used for this storage in config.yml.
+     */
+    String getName();
+
+    /**
+     * Loads a player's kits, or an empty list if they have none.
+     *
+     * @throws PartialKitLoadException if some kits couldn't be read, with the ones that could
+     */
+    List<Kit> load(UUID playerId) throws IOException;
+
+    /**
+     * Replaces all of a player's kits. An empty list removes the player.
+     */
+    void save(UUID playerId, List<Kit> kits) throws IOException;
+
+    /**
+     * Every player with stored kits.
+     */
+    Set<UUID> listPlayers() throws IOException;
+}
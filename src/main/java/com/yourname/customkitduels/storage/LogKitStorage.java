@@ -0,0 +1,349 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Kit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Stores each player's kits in kits/<uuid>.log as an append-only log of kit
+ * versions. A save appends only the kits that changed, plus a delete record for
+ * each removed kit, so earlier versions stay available to roll back to.
+ *
+ * The log is compacted once it holds more than twice historySize records per
+ * kit, keeping the last historySize versions of each existing kit.
+ *
+ * File layout: magic and format version, then records of operation, revision,
+ * time, lower-case kit name, content hash and the encoded kit (empty for deletes).
+ * A record cut short by a crash is dropped on the next save.
+ */
+public class LogKitStorage implements KitStorage, KitHistory {
+
+    private static final int MAGIC = 0x434B444C; // "CKDL"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int OP_PUT = 1;
+    private static final int OP_DELETE = 2;
+
+    private final File folder;
+    private final int historySize;
+    private final Logger logger;
+
+    public LogKitStorage(File folder, int historySize, Logger logger) {
+        this.folder = folder;
+        this.historySize = Math.max(1, historySize);
+        this.logger = logger;
+    }
+
+    // One record of the log, the payload is only kept when it was asked for
+    private static final class Record {
+
+        private final int op;
+        private final long revision;
+        private final long timestamp;
+        private final String key;
+        private final String hash;
+        private final byte[] payload;
+
+        Record(int op, long revision, long timestamp, String key, String hash, byte[] payload) {
+            this.op = op;
+            this.revision = revision;
+            this.timestamp = timestamp;
+            this.key = key;
+            this.hash = hash;
+            this.payload = payload;
+        }
+    }
+
+    private static final class Log {
+
+        private final List<Record> records = new ArrayList<>();
+        // Bytes up to the end of the last complete record
+        private long validLength;
+    }
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public List<Kit> load(UUID playerId) throws IOException {
+        List<Kit> kits = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        Log log = read(getFile(playerId), true);
+
+        for (Record record : replay(log.records).values()) {
+            try {
+                kits.add(KitCodec.decode(record.payload));
+            } catch (Exception e) {
+                logger.warning("Failed to load kit " + record.key + " for player " + playerId + ": " + e.getMessage());
+                failed.add(record.key);
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            throw new PartialKitLoadException("Kits " + String.join(", ", failed) + " couldn't be read", kits);
+        }
+        return kits;
+    }
+
+    @Override
+    public void save(UUID playerId, List<Kit> kits) throws IOException {
+        File file = getFile(playerId);
+        Log log = read(file, false);
+        Map<String, Record> stored = replay(log.records);
+
+        long revision = 1;
+        for (Record record : log.records) {
+            revision = Math.max(revision, record.revision + 1);
+        }
+        long now = System.currentTimeMillis();
+
+        Map<String, Kit> wanted = new LinkedHashMap<>();
+        for (Kit kit : kits) {
+            wanted.put(key(kit.getName()), kit);
+        }
+
+        List<Record> appended = new ArrayList<>();
+        for (String key : stored.keySet()) {
+            if (!wanted.containsKey(key)) {
+                appended.add(new Record(OP_DELETE, revision++, now, key, "", new byte[0]));
+            }
+        }
+
+        // Unchanged kits already in the right order are left alone. From the
+        // first kit that changed or moved on, kits are appended, since each
+        // appended kit moves to the end when the log is replayed.
+        List<String> unchanged = new ArrayList<>();
+        Map<String, byte[]> payloads = new LinkedHashMap<>();
+        Map<String, String> hashes = new LinkedHashMap<>();
+        for (Map.Entry<String, Kit> entry : wanted.entrySet()) {
+            byte[] payload = KitCodec.encode(entry.getValue());
+            payloads.put(entry.getKey(), payload);
+            hashes.put(entry.getKey(), KitCodec.contentHash(payload));
+        }
+        for (Map.Entry<String, Record> entry : stored.entrySet()) {
+            if (entry.getValue().hash.equals(hashes.get(entry.getKey()))) {
+                unchanged.add(entry.getKey());
+            }
+        }
+
+        int kept = 0;
+        for (String key : wanted.keySet()) {
+            if (kept < unchanged.size() && unchanged.get(kept).equals(key)) {
+                kept++;
+                continue;
+            }
+            kept = unchanged.size();
+            appended.add(new Record(OP_PUT, revision++, now, key, hashes.get(key), payloads.get(key)));
+        }
+
+        if (appended.isEmpty()) return;
+
+        append(file, log, appended);
+
+        int records = log.records.size() + appended.size();
+        if (records > Math.max(wanted.size(), 1) * historySize * 2) {
+            compact(playerId);
+        }
+    }
+
+    @Override
+    public Set<UUID> listPlayers() {
+        return StorageFiles.listPlayers(folder, ".log");
+    }
+
+    @Override
+    public List<KitRevision> getRevisions(UUID playerId, String kitName) throws IOException {
+        String key = key(kitName);
+        List<KitRevision> revisions = new ArrayList<>();
+
+        for (Record record : read(getFile(playerId), true).records) {
+            if (record.op != OP_PUT || !record.key.equals(key)) continue;
+
+            try {
+                revisions.add(new KitRevision(record.revision, record.timestamp, KitCodec.decode(record.payload)));
+            } catch (Exception e) {
+                logger.warning("Failed to read revision " + record.revision + " of kit " + kitName + " for player " + playerId + ": " + e.getMessage());
+            }
+        }
+
+        Collections.reverse(revisions);
+        return revisions;
+    }
+
+    /**
+     * Rewrites a player's log with only the last historySize versions of each
+     * existing kit. A log without any kits left is deleted.
+     */
+    private void compact(UUID playerId) throws IOException {
+        File file = getFile(playerId);
+        Log log = read(file, true);
+        Map<String, Record> stored = replay(log.records);
+
+        if (stored.isEmpty()) {
+            Files.deleteIfExists(file.toPath());
+            return;
+        }
+
+        // Group each kit's versions in the kits' current order, so replaying
+        // the compacted log gives the same kits in the same order
+        Map<String, List<Record>> versions = new LinkedHashMap<>();
+        for (String key : stored.keySet()) {
+            versions.put(key, new ArrayList<>());
+        }
+        for (Record record : log.records) {
+            List<Record> kitVersions = versions.get(record.key);
+            if (kitVersions != null && record.op == OP_PUT) {
+                kitVersions.add(record);
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        int count = 0;
+        for (List<Record> kitVersions : versions.values()) {
+            for (Record record : kitVersions.subList(Math.max(0, kitVersions.size() - historySize), kitVersions.size())) {
+                writeRecord(out, record);
+                count++;
+            }
+        }
+        out.flush();
+
+        StorageFiles.writeAtomically(file.toPath(), bytes.toByteArray());
+
+        int removed = log.records.size() - count;
+        logger.fine("Compacted kit log of " + playerId + ", removed " + removed + " records");
+    }
+
+    private void append(File file, Log log, List<Record> records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        if (!file.exists()) {
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            for (Record record : records) {
+                writeRecord(out, record);
+            }
+            out.flush();
+            StorageFiles.writeAtomically(file.toPath(), bytes.toByteArray());
+            return;
+        }
+
+        for (Record record : records) {
+            writeRecord(out, record);
+        }
+        out.flush();
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            if (channel.size() > log.validLength) {
+                logger.warning("Dropping an incomplete record at the end of " + file.getName());
+                channel.truncate(log.validLength);
+            }
+            channel.position(log.validLength);
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private Log read(File file, boolean withPayloads) throws IOException {
+        Log log = new Log();
+        if (!file.exists()) return log;
+
+        byte[] data = Files.readAllBytes(file.toPath());
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a kit log: " + file.getName());
+        }
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported kit log version " + version + " in " + file.getName());
+        }
+        log.validLength = data.length - in.available();
+
+        while (in.available() > 0) {
+            try {
+                int op = in.readUnsignedByte();
+                long revision = in.readLong();
+                long timestamp = in.readLong();
+                String key = in.readUTF();
+                String hash = in.readUTF();
+                int length = in.readInt();
+                if (length < 0 || length > in.available()) {
+                    throw new EOFException();
+                }
+                byte[] payload = null;
+                if (withPayloads) {
+                    payload = new byte[length];
+                    in.readFully(payload);
+                } else if (in.skipBytes(length) != length) {
+                    throw new EOFException();
+                }
+
+                log.records.add(new Record(op, revision, timestamp, key, hash, payload));
+                log.validLength = data.length - in.available();
+            } catch (EOFException e) {
+                // The last write didn't finish, everything before it is intact
+                break;
+            }
+        }
+
+        return log;
+    }
+
+    private static void writeRecord(DataOutputStream out, Record record) throws IOException {
+        out.writeByte(record.op);
+        out.writeLong(record.revision);
+        out.writeLong(record.timestamp);
+        out.writeUTF(record.key);
+        out.writeUTF(record.hash);
+        out.writeInt(record.payload.length);
+        out.write(record.payload);
+    }
+
+    // The latest version of each kit that still exists, in the order kits were last saved
+    private static Map<String, Record> replay(List<Record> records) {
+        Map<String, Record> kits = new LinkedHashMap<>();
+        for (Record record : records) {
+            kits.remove(record.key);
+            if (record.op == OP_PUT) {
+                kits.put(record.key, record);
+            }
+        }
+        return kits;
+    }
+
+    private File getFile(UUID playerId) {
+        return new File(folder, playerId.toString() + ".log");
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
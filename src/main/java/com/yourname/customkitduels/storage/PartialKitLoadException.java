@@ -0,0 +1,28 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Kit;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Thrown when only some of a player's stored kits could be read. Carries the
+ * kits that could. They can be used, but saving them would delete the
+ * unreadable ones from storage.
+ */
+public class PartialKitLoadException extends IOException {
+
+    private final transient List<Kit> kits;
+
+    public PartialKitLoadException(String message, List<Kit> kits) {
+        super(message);
+        this.kits = kits;
+    }
+
+    /**
+     * The kits that were read.
+     */
+    public List<Kit> getKits() {
+        return kits;
+    }
+}
@@ -0,0 +1,111 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Arena;
+import org.bukkit.Location;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Stores arenas in the arenas table of the plugin database. Locations are
+ * kept as "world;x;y;z;yaw;pitch". Saves and deletes are queued and committed
+ * off the main thread.
+ */
+public class SqliteArenaStorage implements ArenaStorage {
+
+    private final SqliteDatabase database;
+    private final Logger logger;
+
+    public SqliteArenaStorage(SqliteDatabase database, Logger logger) {
+        this.database = database;
+        this.logger = logger;
+    }
+
+    @Override
+    public String getName() {
+        return "sqlite";
+    }
+
+    @Override
+    public List<StoredArena> loadAll() throws IOException {
+        try {
+            return database.read(connection -> {
+                List<StoredArena> arenas = new ArrayList<>();
+                try (PreparedStatement statement = connection.prepareStatement("SELECT * FROM arenas");
+                     ResultSet results = statement.executeQuery()) {
+                    while (results.next()) {
+                        String arenaName = results.getString("name");
+                        StoredArena arena = new StoredArena(arenaName);
+                        try {
+                            arena.setPos1(decodeLocation(results.getString("pos1")));
+                            arena.setPos2(decodeLocation(results.getString("pos2")));
+                            arena.setSpawn1(decodeLocation(results.getString("spawn1")));
+                            arena.setSpawn2(decodeLocation(results.getString("spawn2")));
+                            arena.setRegeneration(results.getInt("regeneration") != 0);
+                            arena.setSchematicName(results.getString("schematic_name"));
+                            arenas.add(arena);
+                        } catch (IllegalArgumentException e) {
+                            logger.warning("Failed to load arena " + arenaName + ": " + e.getMessage());
+                        }
+                    }
+                }
+                return arenas;
+            });
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void save(Arena arena) {
+        // Copy the values now, the arena may be edited before the write runs
+        String name = arena.getName();
+        String pos1 = encodeLocation(arena.getPos1());
+        String pos2 = encodeLocation(arena.getPos2());
+        String spawn1 = encodeLocation(arena.getSpawn1());
+        String spawn2 = encodeLocation(arena.getSpawn2());
+        boolean regeneration = arena.hasRegeneration();
+        String schematicName = arena.getSchematicName();
+
+        database.writeAsync(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT OR REPLACE INTO arenas (name, pos1, pos2, spawn1, spawn2, regeneration, schematic_name) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                statement.setString(1, name);
+                statement.setString(2, pos1);
+                statement.setString(3, pos2);
+                statement.setString(4, spawn1);
+                statement.setString(5, spawn2);
+                statement.setInt(6, regeneration ? 1 : 0);
+                statement.setString(7, schematicName);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    @Override
+    public void delete(String name) {
+        database.writeAsync(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("DELETE FROM arenas WHERE name = ?")) {
+                statement.setString(1, name);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    private String encodeLocation(Location location) {
+        if (location == null || location.getWorld() == null) return null;
+
+        return location.getWorld().getName() + ";" + location.getX() + ";" + location.getY() + ";" + location.getZ() +
+                ";" + location.getYaw() + ";" + location.getPitch();
+    }
+
+    private StoredLocation decodeLocation(String value) {
+        return value != null ? StoredLocation.parse(value) : null;
+    }
+}
@@ -0,0 +1,90 @@
+package com.yourname.customkitduels.storage;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stores categories in the category_items table of the plugin database, one
+ * row per item. Saves are queued and committed off the main thread.
+ */
+public class SqliteCategoryStorage implements CategoryStorage {
+
+    private final SqliteDatabase database;
+
+    public SqliteCategoryStorage(SqliteDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public String getName() {
+        return "sqlite";
+    }
+
+    @Override
+    public Set<String> listCategories() throws IOException {
+        try {
+            return database.read(connection -> {
+                Set<String> categories = new HashSet<>();
+                try (PreparedStatement statement = connection.prepareStatement("SELECT DISTINCT category FROM category_items");
+                     ResultSet results = statement.executeQuery()) {
+                    while (results.next()) {
+                        categories.add(results.getString("category"));
+                    }
+                }
+                return categories;
+            });
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<String> load(String category) throws IOException {
+        try {
+            return database.read(connection -> {
+                List<String> materials = new ArrayList<>();
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "SELECT material FROM category_items WHERE category = ? ORDER BY position")) {
+                    statement.setString(1, category);
+                    try (ResultSet results = statement.executeQuery()) {
+                        while (results.next()) {
+                            materials.add(results.getString("material"));
+                        }
+                    }
+                }
+                return materials.isEmpty() ? null : materials;
+            });
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void save(String category, List<String> materials) {
+        List<String> copy = new ArrayList<>(materials);
+
+        database.writeAsync(connection -> {
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM category_items WHERE category = ?")) {
+                delete.setString(1, category);
+                delete.executeUpdate();
+            }
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO category_items (category, position, material) VALUES (?, ?, ?)")) {
+                for (int i = 0; i < copy.size(); i++) {
+                    insert.setString(1, category);
+                    insert.setInt(2, i);
+                    insert.setString(3, copy.get(i));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package com.yourname.customkitduels.storage;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * The plugin's embedded SQLite database, stored in data.db in the plugin folder.
+ * It uses the SQLite driver that ships with the server.
+ *
+ * All access goes through one connection guarded by this object. Writes made
+ * with {@link #writeAsync} are queued and applied on a background thread, with
+ * everything queued at that point committed in a single transaction. Reads apply
+ * any queued writes first, so they always see earlier writes.
+ */
+public class SqliteDatabase {
+
+    public interface SqlTask<T> {
+        T run(Connection connection) throws SQLException;
+    }
+
+    public interface SqlWrite {
+        void run(Connection connection) throws SQLException;
+    }
+
+    private final Logger logger;
+    private final Connection connection;
+    private final List<SqlWrite> queuedWrites = new ArrayList<>();
+    private final ExecutorService writer;
+
+    public SqliteDatabase(File file, Logger logger) throws SQLException {
+        this.logger = logger;
+
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("SQLite driver not found", e);
+        }
+        this.connection = DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath());
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("PRAGMA synchronous=NORMAL");
+            statement.execute("CREATE TABLE IF NOT EXISTS kits (" +
+                    "owner TEXT NOT NULL, name TEXT NOT NULL, position INTEGER NOT NULL, " +
+                    "display_name TEXT NOT NULL, content_hash TEXT NOT NULL, PRIMARY KEY (owner, name))");
+            statement.execute("CREATE TABLE IF NOT EXISTS kit_contents (" +
+                    "hash TEXT PRIMARY KEY, data BLOB NOT NULL, refs INTEGER NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS arenas (" +
+                    "name TEXT PRIMARY KEY, pos1 TEXT, pos2 TEXT, spawn1 TEXT, spawn2 TEXT, " +
+                    "regeneration INTEGER NOT NULL, schematic_name TEXT NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS category_items (" +
+                    "category TEXT NOT NULL, position INTEGER NOT NULL, material TEXT NOT NULL, " +
+                    "PRIMARY KEY (category, position))");
+        }
+
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CustomKitDuels-Database");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs a query on the calling thread after applying any queued writes.
+     */
+    public synchronized <T> T read(SqlTask<T> task) throws SQLException {
+        applyQueuedWrites();
+        return task.run(connection);
+    }
+
+    /**
+     * Runs writes in a single transaction on the calling thread.
+     */
+    public synchronized void write(SqlWrite write) throws SQLException {
+        applyQueuedWrites();
+        runInTransaction(List.of(write));
+    }
+
+    /**
+     * Queues a write to be committed on the database thread, together with any
+     * other writes queued before it runs.
+     */
+    public void writeAsync(SqlWrite write) {
+        boolean schedule;
+        synchronized (this) {
+            schedule = queuedWrites.isEmpty();
+            queuedWrites.add(write);
+        }
+
+        if (schedule) {
+            try {
+                writer.execute(this::flushQueuedWrites);
+            } catch (RejectedExecutionException e) {
+                // Closing, apply it on the calling thread instead
+                flushQueuedWrites();
+            }
+        }
+    }
+
+    private synchronized void flushQueuedWrites() {
+        try {
+            applyQueuedWrites();
+        } catch (SQLException e) {
+            logger.severe("Failed to write to the database: " + e.getMessage());
+        }
+    }
+
+    // Callers hold the lock
+    private void applyQueuedWrites() throws SQLException {
+        if (queuedWrites.isEmpty()) return;
+
+        List<SqlWrite> writes = new ArrayList<>(queuedWrites);
+        queuedWrites.clear();
+        runInTransaction(writes);
+    }
+
+    private void runInTransaction(List<SqlWrite> writes) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            for (SqlWrite write : writes) {
+                write.run(connection);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Applies any queued writes and closes the connection.
+     */
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            flushQueuedWrites();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.warning("Failed to close the database: " + e.getMessage());
+            }
+        }
+    }
+}
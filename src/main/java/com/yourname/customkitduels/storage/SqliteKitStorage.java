@@ -0,0 +1,177 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Kit;
+import com.yourname.customkitduels.data.KitContent;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Stores kits in the kits table of the plugin database, one row per kit keyed
+ * by owner and kit name. Saves run on the kit writer thread, so they are
+ * written directly rather than through the database's write queue.
+ *
+ * Kit items are stored once per distinct content in kit_contents, keyed by
+ * content hash, with a count of the kits using them. A content row is deleted
+ * when its last kit is.
+ */
+public class SqliteKitStorage implements KitStorage {
+
+    private final SqliteDatabase database;
+    private final Logger logger;
+
+    public SqliteKitStorage(SqliteDatabase database, Logger logger) {
+        this.database = database;
+        this.logger = logger;
+    }
+
+    @Override
+    public String getName() {
+        return "sqlite";
+    }
+
+    @Override
+    public List<Kit> load(UUID playerId) throws IOException {
+        List<String> failed = new ArrayList<>();
+        List<Kit> loaded;
+        try {
+            loaded = database.read(connection -> {
+                List<Kit> kits = new ArrayList<>();
+                // Kits of one player often share items too, decode each content once
+                Map<String, KitContent> decoded = new HashMap<>();
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "SELECT kits.name, kits.display_name, kit_contents.hash, kit_contents.data FROM kits " +
+                        "JOIN kit_contents ON kit_contents.hash = kits.content_hash " +
+                        "WHERE kits.owner = ? ORDER BY kits.position")) {
+                    statement.setString(1, playerId.toString());
+                    try (ResultSet results = statement.executeQuery()) {
+                        while (results.next()) {
+                            String name = results.getString("name");
+                            try {
+                                KitContent content = decoded.get(results.getString("hash"));
+                                if (content == null) {
+                                    content = KitCodec.decodeContent(results.getBytes("data"));
+                                    decoded.put(results.getString("hash"), content);
+                                }
+                                kits.add(new Kit(name, results.getString("display_name"), content));
+                            } catch (IOException e) {
+                                logger.warning("Failed to load kit " + name + " for player " + playerId + ": " + e.getMessage());
+                                failed.add(name);
+                            }
+                        }
+                    }
+                }
+                return kits;
+            });
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        if (!failed.isEmpty()) {
+            throw new PartialKitLoadException("Kits " + String.join(", ", failed) + " couldn't be read", loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void save(UUID playerId, List<Kit> kits) throws IOException {
+        // Encode and hash before taking the database lock
+        List<byte[]> records = new ArrayList<>(kits.size());
+        List<String> hashes = new ArrayList<>(kits.size());
+        for (Kit kit : kits) {
+            byte[] record = KitCodec.encodeContent(kit.getContent());
+            records.add(record);
+            hashes.add(KitCodec.contentHash(record));
+        }
+
+        try {
+            database.write(connection -> {
+                // Release the contents of the kits being replaced
+                Set<String> released = new HashSet<>();
+                try (PreparedStatement select = connection.prepareStatement("SELECT content_hash FROM kits WHERE owner = ?");
+                     PreparedStatement release = connection.prepareStatement("UPDATE kit_contents SET refs = refs - 1 WHERE hash = ?")) {
+                    select.setString(1, playerId.toString());
+                    try (ResultSet results = select.executeQuery()) {
+                        while (results.next()) {
+                            String hash = results.getString("content_hash");
+                            released.add(hash);
+                            release.setString(1, hash);
+                            release.addBatch();
+                        }
+                    }
+                    release.executeBatch();
+                }
+
+                try (PreparedStatement delete = connection.prepareStatement("DELETE FROM kits WHERE owner = ?")) {
+                    delete.setString(1, playerId.toString());
+                    delete.executeUpdate();
+                }
+
+                if (!kits.isEmpty()) {
+                    try (PreparedStatement acquire = connection.prepareStatement(
+                            "INSERT INTO kit_contents (hash, data, refs) VALUES (?, ?, 1) " +
+                            "ON CONFLICT (hash) DO UPDATE SET refs = refs + 1");
+                         PreparedStatement insert = connection.prepareStatement(
+                            "INSERT INTO kits (owner, name, position, display_name, content_hash) VALUES (?, ?, ?, ?, ?)")) {
+                        for (int i = 0; i < kits.size(); i++) {
+                            Kit kit = kits.get(i);
+                            acquire.setString(1, hashes.get(i));
+                            acquire.setBytes(2, records.get(i));
+                            acquire.addBatch();
+
+                            insert.setString(1, playerId.toString());
+                            insert.setString(2, kit.getName());
+                            insert.setInt(3, i);
+                            insert.setString(4, kit.getDisplayName());
+                            insert.setString(5, hashes.get(i));
+                            insert.addBatch();
+                        }
+                        acquire.executeBatch();
+                        insert.executeBatch();
+                    }
+                }
+
+                // Only contents released above can have dropped to no references
+                if (!released.isEmpty()) {
+                    try (PreparedStatement purge = connection.prepareStatement("DELETE FROM kit_contents WHERE hash = ? AND refs <= 0")) {
+                        for (String hash : released) {
+                            purge.setString(1, hash);
+                            purge.addBatch();
+                        }
+                        purge.executeBatch();
+                    }
+                }
+            });
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Set<UUID> listPlayers() throws IOException {
+        try {
+            return database.read(connection -> {
+                Set<UUID> players = new HashSet<>();
+                try (PreparedStatement statement = connection.prepareStatement("SELECT DISTINCT owner FROM kits");
+                     ResultSet results = statement.executeQuery()) {
+                    while (results.next()) {
+                        players.add(UUID.fromString(results.getString("owner")));
+                    }
+                }
+                return players;
+            });
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.yourname.customkitduels.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * File helpers shared by the file based storages.
+ */
+final class StorageFiles {
+
+    private StorageFiles() {
+    }
+
+    /**
+     * Writes to a temporary file first and moves it into place, so a crash
+     * never leaves a half-written file behind.
+     */
+    static void writeAtomically(Path file, byte[] data) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, data);
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Players that have a "<uuid><extension>" file in the folder.
+     */
+    static Set<UUID> listPlayers(File folder, String extension) {
+        Set<UUID> players = new HashSet<>();
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(extension));
+        if (files == null) return players;
+
+        for (File file : files) {
+            String name = file.getName();
+            try {
+                players.add(UUID.fromString(name.substring(0, name.length() - extension.length())));
+            } catch (IllegalArgumentException e) {
+                // Not a player file
+            }
+        }
+        return players;
+    }
+}
@@ -0,0 +1,67 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Arena;
+
+/**
+ * An arena as read from storage, before its locations are bound to worlds.
+ */
+public class StoredArena {
+
+    private final String name;
+    private StoredLocation pos1;
+    private StoredLocation pos2;
+    private StoredLocation spawn1;
+    private StoredLocation spawn2;
+    private boolean regeneration;
+    private String schematicName;
+
+    public StoredArena(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    void setPos1(StoredLocation pos1) {
+        this.pos1 = pos1;
+    }
+
+    void setPos2(StoredLocation pos2) {
+        this.pos2 = pos2;
+    }
+
+    void setSpawn1(StoredLocation spawn1) {
+        this.spawn1 = spawn1;
+    }
+
+    void setSpawn2(StoredLocation spawn2) {
+        this.spawn2 = spawn2;
+    }
+
+    void setRegeneration(boolean regeneration) {
+        this.regeneration = regeneration;
+    }
+
+    void setSchematicName(String schematicName) {
+        this.schematicName = schematicName;
+    }
+
+    /**
+     * Creates the arena, resolving its worlds. Must be called on the main thread.
+     *
+     * @throws IllegalArgumentException if one of the arena's worlds isn't loaded
+     */
+    public Arena bind() {
+        Arena arena = new Arena(name);
+        arena.setPos1(pos1 != null ? pos1.bind() : null);
+        arena.setPos2(pos2 != null ? pos2.bind() : null);
+        arena.setSpawn1(spawn1 != null ? spawn1.bind() : null);
+        arena.setSpawn2(spawn2 != null ? spawn2.bind() : null);
+        arena.setRegeneration(regeneration);
+        if (schematicName != null) {
+            arena.setSchematicName(schematicName);
+        }
+        return arena;
+    }
+}
@@ -0,0 +1,81 @@
+package com.yourname.customkitduels.storage;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A location as read from storage, with the world only known by name. Reading
+ * these doesn't touch the server, so it can happen off the main thread.
+ */
+public class StoredLocation {
+
+    private final String worldName;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final float yaw;
+    private final float pitch;
+
+    public StoredLocation(String worldName, double x, double y, double z, float yaw, float pitch) {
+        this.worldName = worldName;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.yaw = yaw;
+        this.pitch = pitch;
+    }
+
+    /**
+     * Reads a location from the fields Bukkit writes for it in YAML.
+     */
+    static StoredLocation fromMap(Map<?, ?> map) {
+        Object world = map.get("world");
+        if (world == null) {
+            throw new IllegalArgumentException("Location without a world");
+        }
+        return new StoredLocation(world.toString(), number(map, "x"), number(map, "y"), number(map, "z"),
+                (float) number(map, "yaw"), (float) number(map, "pitch"));
+    }
+
+    private static double number(Map<?, ?> map, String key) {
+        Object value = map.get(key);
+        if (value == null) return 0;
+        if (!(value instanceof Number)) {
+            throw new IllegalArgumentException("Invalid location " + key + ": " + value);
+        }
+        return ((Number) value).doubleValue();
+    }
+
+    /**
+     * Reads a location written as "world;x;y;z;yaw;pitch".
+     */
+    static StoredLocation parse(String value) {
+        // The world name comes first and may itself contain ';'
+        String[] parts = value.split(";");
+        if (parts.length < 6) {
+            throw new IllegalArgumentException("Invalid location: " + value);
+        }
+        int n = parts.length;
+        String worldName = String.join(";", Arrays.copyOfRange(parts, 0, n - 5));
+
+        return new StoredLocation(worldName, Double.parseDouble(parts[n - 5]), Double.parseDouble(parts[n - 4]),
+                Double.parseDouble(parts[n - 3]), Float.parseFloat(parts[n - 2]), Float.parseFloat(parts[n - 1]));
+    }
+
+    /**
+     * Resolves the world and creates the location. Must be called on the main thread.
+     *
+     * @throws IllegalArgumentException if the world isn't loaded
+     */
+    public Location bind() {
+        World world = Bukkit.getWorld(worldName);
+        if (world == null) {
+            throw new IllegalArgumentException("Unknown world: " + worldName);
+        }
+        return new Location(world, x, y, z, yaw, pitch);
+    }
+}
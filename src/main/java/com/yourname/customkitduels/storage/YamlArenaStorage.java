@@ -0,0 +1,121 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Arena;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Stores each arena in arenas/<name>.yml.
+ */
+public class YamlArenaStorage implements ArenaStorage {
+
+    private final File folder;
+    private final Logger logger;
+
+    public YamlArenaStorage(File folder, Logger logger) {
+        this.folder = folder;
+        this.logger = logger;
+    }
+
+    @Override
+    public String getName() {
+        return "yaml";
+    }
+
+    @Override
+    public List<StoredArena> loadAll() {
+        List<StoredArena> arenas = new ArrayList<>();
+
+        // Load from individual arena files
+        File[] arenaFiles = folder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (arenaFiles == null) return arenas;
+
+        // Plain YAML rather than YamlConfiguration, which would resolve the
+        // worlds of the saved locations while parsing
+        Yaml yaml = new Yaml(new SafeConstructor(new LoaderOptions()));
+
+        for (File file : arenaFiles) {
+            String arenaName = file.getName().replace(".yml", "");
+            StoredArena arena = new StoredArena(arenaName);
+
+            try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                Object loaded = yaml.load(reader);
+                Map<?, ?> config = loaded instanceof Map ? (Map<?, ?>) loaded : Collections.emptyMap();
+
+                // Load positions
+                arena.setPos1(readLocation(config.get("pos1")));
+                arena.setPos2(readLocation(config.get("pos2")));
+
+                // Load spawn points
+                arena.setSpawn1(readLocation(config.get("spawn1")));
+                arena.setSpawn2(readLocation(config.get("spawn2")));
+
+                // Load regeneration settings
+                arena.setRegeneration(Boolean.TRUE.equals(config.get("regeneration")));
+                Object schematicName = config.get("schematicName");
+                arena.setSchematicName(schematicName != null ? schematicName.toString() : arenaName.toLowerCase() + "_arena");
+
+                arenas.add(arena);
+            } catch (Exception e) {
+                logger.warning("Failed to load arena " + arenaName + ": " + e.getMessage());
+            }
+        }
+
+        return arenas;
+    }
+
+    private StoredLocation readLocation(Object value) {
+        if (value == null) return null;
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("Invalid location: " + value);
+        }
+        return StoredLocation.fromMap((Map<?, ?>) value);
+    }
+
+    @Override
+    public void save(Arena arena) throws IOException {
+        File arenaFile = new File(folder, arena.getName() + ".yml");
+        FileConfiguration config = new YamlConfiguration();
+
+        // Save positions
+        if (arena.getPos1() != null) {
+            config.set("pos1", arena.getPos1());
+        }
+        if (arena.getPos2() != null) {
+            config.set("pos2", arena.getPos2());
+        }
+
+        // Save spawn points
+        if (arena.getSpawn1() != null) {
+            config.set("spawn1", arena.getSpawn1());
+        }
+        if (arena.getSpawn2() != null) {
+            config.set("spawn2", arena.getSpawn2());
+        }
+
+        // Save regeneration settings
+        config.set("regeneration", arena.hasRegeneration());
+        config.set("schematicName", arena.getSchematicName());
+
+        config.save(arenaFile);
+    }
+
+    @Override
+    public void delete(String name) throws IOException {
+        Files.deleteIfExists(new File(folder, name + ".yml").toPath());
+    }
+}
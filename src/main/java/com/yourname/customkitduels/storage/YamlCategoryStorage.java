@@ -0,0 +1,55 @@
+package com.yourname.customkitduels.storage;
+
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stores each category in categories/<NAME>.yml under "items".
+ */
+public class YamlCategoryStorage implements CategoryStorage {
+
+    private final File folder;
+
+    public YamlCategoryStorage(File folder) {
+        this.folder = folder;
+    }
+
+    @Override
+    public String getName() {
+        return "yaml";
+    }
+
+    @Override
+    public Set<String> listCategories() {
+        Set<String> categories = new HashSet<>();
+        File[] categoryFiles = folder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (categoryFiles != null) {
+            for (File file : categoryFiles) {
+                categories.add(file.getName().replace(".yml", "").toUpperCase());
+            }
+        }
+        return categories;
+    }
+
+    @Override
+    public List<String> load(String category) {
+        File categoryFile = new File(folder, category + ".yml");
+        if (!categoryFile.exists()) return null;
+
+        FileConfiguration config = YamlConfiguration.loadConfiguration(categoryFile);
+        return config.getStringList("items");
+    }
+
+    @Override
+    public void save(String category, List<String> materials) throws IOException {
+        FileConfiguration config = new YamlConfiguration();
+        config.set("items", materials);
+        config.save(new File(folder, category + ".yml"));
+    }
+}
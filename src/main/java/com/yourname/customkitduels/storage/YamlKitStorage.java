@@ -0,0 +1,112 @@
+package com.yourname.customkitduels.storage;
+
+import com.yourname.customkitduels.data.Kit;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Stores each player's kits in kits/<uuid>.yml using Bukkit's item serialization.
+ */
+public class YamlKitStorage implements KitStorage {
+
+    private final File folder;
+    private final Logger logger;
+
+    public YamlKitStorage(File folder, Logger logger) {
+        this.folder = folder;
+        this.logger = logger;
+    }
+
+    @Override
+    public String getName() {
+        return "yaml";
+    }
+
+    @Override
+    public List<Kit> load(UUID playerId) throws IOException {
+        List<Kit> kits = new ArrayList<>();
+        File file = new File(folder, playerId.toString() + ".yml");
+        if (!file.exists()) return kits;
+
+        // loadConfiguration would log a broken file and return it as empty,
+        // which the next save would then write over
+        FileConfiguration config = new YamlConfiguration();
+        try {
+            config.load(file);
+        } catch (InvalidConfigurationException e) {
+            throw new IOException("Invalid kit file " + file.getName() + ": " + e.getMessage(), e);
+        }
+
+        List<String> failed = new ArrayList<>();
+        for (String kitName : config.getKeys(false)) {
+            try {
+                String displayName = config.getString(kitName + ".displayName", kitName);
+
+                // Load contents with null safety
+                ItemStack[] contents = readItems(config.get(kitName + ".contents"));
+
+                // Load armor with null safety
+                ItemStack[] armor = readItems(config.get(kitName + ".armor"));
+
+                // Array sizes are fixed by the kit validator
+                kits.add(new Kit(kitName, displayName, contents, armor));
+
+            } catch (Exception e) {
+                logger.warning("Failed to load kit " + kitName + " for player " + playerId + ": " + e.getMessage());
+                failed.add(kitName);
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            throw new PartialKitLoadException("Kits " + String.join(", ", failed) + " in " + file.getName() + " couldn't be read", kits);
+        }
+        return kits;
+    }
+
+    private ItemStack[] readItems(Object value) {
+        if (value instanceof ItemStack[]) {
+            return (ItemStack[]) value;
+        } else if (value instanceof List) {
+            @SuppressWarnings("unchecked")
+            List<ItemStack> list = (List<ItemStack>) value;
+            return list.toArray(new ItemStack[0]);
+        }
+        return null;
+    }
+
+    @Override
+    public void save(UUID playerId, List<Kit> kits) throws IOException {
+        File file = new File(folder, playerId.toString() + ".yml");
+        if (kits.isEmpty()) {
+            Files.deleteIfExists(file.toPath());
+            return;
+        }
+
+        YamlConfiguration config = new YamlConfiguration();
+        for (Kit kit : kits) {
+            String path = kit.getName();
+            config.set(path + ".displayName", kit.getDisplayName());
+            config.set(path + ".contents", kit.getContents());
+            config.set(path + ".armor", kit.getArmor());
+        }
+
+        StorageFiles.writeAtomically(file.toPath(), config.saveToString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Set<UUID> listPlayers() {
+        return StorageFiles.listPlayers(folder, ".yml");
+    }
+}
@@ -0,0 +1,114 @@
+package com.yourname.customkitduels.utils;
+
+import com.yourname.customkitduels.CustomKitDuels;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Debug output with a level per subsystem, set in the "debug" section of
+ * config.yml. Messages are passed as suppliers so a disabled message costs a
+ * single array lookup, and enabled messages are written to the console from a
+ * background thread instead of the main thread.
+ */
+public class DebugLogger {
+
+    public enum Subsystem {
+        GUI, DUEL, KIT, ARENA
+    }
+
+    public enum Level {
+        OFF, BASIC, VERBOSE
+    }
+
+    private final CustomKitDuels plugin;
+    private final Logger logger;
+    private final Level[] levels = new Level[Subsystem.values().length];
+    private volatile ExecutorService appender;
+
+    public DebugLogger(CustomKitDuels plugin) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        reload();
+    }
+
+    public void reload() {
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("debug");
+        boolean anyEnabled = false;
+
+        for (Subsystem subsystem : Subsystem.values()) {
+            String value = section != null ? section.getString(subsystem.name().toLowerCase(Locale.ROOT), "off") : "off";
+            Level level;
+            try {
+                level = Level.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Invalid debug level '" + value + "' for " + subsystem.name().toLowerCase(Locale.ROOT) + ", using off");
+                level = Level.OFF;
+            }
+            levels[subsystem.ordinal()] = level;
+            anyEnabled |= level != Level.OFF;
+        }
+
+        if (anyEnabled && appender == null) {
+            appender = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "CustomKitDuels-Debug");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else if (!anyEnabled && appender != null) {
+            appender.shutdown();
+            appender = null;
+        }
+    }
+
+    public boolean isEnabled(Subsystem subsystem, Level level) {
+        return levels[subsystem.ordinal()].compareTo(level) >= 0;
+    }
+
+    /**
+     * Logs a message that is useful whenever debugging a subsystem.
+     */
+    public void debug(Subsystem subsystem, Supplier<String> message) {
+        log(subsystem, Level.BASIC, message);
+    }
+
+    /**
+     * Logs a per-event message, such as every inventory click.
+     */
+    public void trace(Subsystem subsystem, Supplier<String> message) {
+        log(subsystem, Level.VERBOSE, message);
+    }
+
+    private void log(Subsystem subsystem, Level level, Supplier<String> message) {
+        if (!isEnabled(subsystem, level)) return;
+
+        ExecutorService executor = appender;
+        if (executor == null) return;
+
+        // Build the text now so it reflects the state at the time of the call
+        String line = "[DEBUG/" + subsystem.name() + "] " + message.get();
+        try {
+            executor.execute(() -> logger.info(line));
+        } catch (RejectedExecutionException e) {
+            // Debug output was switched off while this message was being built
+        }
+    }
+
+    public void shutdown() {
+        if (appender == null) return;
+
+        appender.shutdown();
+        try {
+            appender.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        appender = null;
+    }
+}
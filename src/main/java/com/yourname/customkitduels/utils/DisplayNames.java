@@ -0,0 +1,77 @@
+package com.yourname.customkitduels.utils;
+
+import org.bukkit.Material;
+import org.bukkit.Registry;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.potion.PotionType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Human-readable names for materials, potion types and enchantments, built once
+ * at startup so menus don't re-split enum names every time an icon is drawn.
+ */
+public final class DisplayNames {
+
+    private static String[] materialNames = new String[0];
+    private static String[] potionNames = new String[0];
+    private static final Map<Enchantment, String> enchantmentNames = new HashMap<>();
+
+    private DisplayNames() {
+    }
+
+    public static void load() {
+        Material[] materials = Material.values();
+        String[] materialTable = new String[materials.length];
+        for (Material material : materials) {
+            materialTable[material.ordinal()] = format(material.name());
+        }
+        materialNames = materialTable;
+
+        PotionType[] potionTypes = PotionType.values();
+        String[] potionTable = new String[potionTypes.length];
+        for (PotionType potionType : potionTypes) {
+            potionTable[potionType.ordinal()] = format(potionType.name());
+        }
+        potionNames = potionTable;
+
+        enchantmentNames.clear();
+        for (Enchantment enchantment : Registry.ENCHANTMENT) {
+            enchantmentNames.put(enchantment, format(enchantment.getKey().getKey()));
+        }
+    }
+
+    /**
+     * "DIAMOND_SWORD" becomes "Diamond Sword".
+     */
+    public static String material(Material material) {
+        String[] names = materialNames;
+        return material.ordinal() < names.length ? names[material.ordinal()] : format(material.name());
+    }
+
+    public static String potion(PotionType potionType) {
+        String[] names = potionNames;
+        return potionType.ordinal() < names.length ? names[potionType.ordinal()] : format(potionType.name());
+    }
+
+    public static String enchantment(Enchantment enchantment) {
+        // Enchantments added by data packs after startup are named on first use
+        return enchantmentNames.computeIfAbsent(enchantment, e -> format(e.getKey().getKey()));
+    }
+
+    private static String format(String name) {
+        String[] words = name.toLowerCase().split("_");
+        StringBuilder formatted = new StringBuilder();
+
+        for (String word : words) {
+            if (word.isEmpty()) continue;
+            if (formatted.length() > 0) {
+                formatted.append(" ");
+            }
+            formatted.append(word.substring(0, 1).toUpperCase()).append(word.substring(1));
+        }
+
+        return formatted.toString();
+    }
+}
@@ -0,0 +1,201 @@
+package com.yourname.customkitduels.utils;
+
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Which enchantments the enchantment menu offers for each material, and which
+ * of them conflict, precomputed at startup.
+ *
+ * Every offered enchantment gets a bit, so the enchantments on an item can be
+ * held in one long and conflict checks become a mask test.
+ */
+public final class EnchantmentIndex {
+
+    private static final Enchantment[] NONE = new Enchantment[0];
+
+    // Enchantments that can't be combined on one item
+    private static final List<List<Enchantment>> CONFLICT_GROUPS = Arrays.asList(
+        Arrays.asList(Enchantment.PROTECTION, Enchantment.FIRE_PROTECTION,
+            Enchantment.BLAST_PROTECTION, Enchantment.PROJECTILE_PROTECTION),
+        Arrays.asList(Enchantment.SHARPNESS, Enchantment.SMITE, Enchantment.BANE_OF_ARTHROPODS),
+        Arrays.asList(Enchantment.FORTUNE, Enchantment.SILK_TOUCH),
+        Arrays.asList(Enchantment.INFINITY, Enchantment.MENDING),
+        Arrays.asList(Enchantment.DEPTH_STRIDER, Enchantment.FROST_WALKER),
+        Arrays.asList(Enchantment.MULTISHOT, Enchantment.PIERCING),
+        Arrays.asList(Enchantment.LOYALTY, Enchantment.RIPTIDE),
+        Arrays.asList(Enchantment.CHANNELING, Enchantment.RIPTIDE)
+    );
+
+    private static Enchantment[][] byMaterial = new Enchantment[0][];
+    private static final Map<Enchantment, Integer> bits = new HashMap<>();
+    private static long[] conflictMasks = new long[0];
+
+    private EnchantmentIndex() {
+    }
+
+    public static void load() {
+        bits.clear();
+
+        Material[] materials = Material.values();
+        Enchantment[][] table = new Enchantment[materials.length][];
+        for (Material material : materials) {
+            Enchantment[] enchantments = material.isLegacy() ? NONE : collect(material);
+            table[material.ordinal()] = enchantments;
+            for (Enchantment enchantment : enchantments) {
+                if (!bits.containsKey(enchantment)) {
+                    bits.put(enchantment, bits.size());
+                }
+            }
+        }
+        byMaterial = table;
+
+        if (bits.size() > Long.SIZE) {
+            throw new IllegalStateException("Too many enchantments for a long mask: " + bits.size());
+        }
+
+        long[] masks = new long[bits.size()];
+        for (List<Enchantment> group : CONFLICT_GROUPS) {
+            long groupMask = 0L;
+            for (Enchantment enchantment : group) {
+                groupMask |= bit(enchantment);
+            }
+            for (Enchantment enchantment : group) {
+                Integer index = bits.get(enchantment);
+                if (index != null) {
+                    masks[index] |= groupMask & ~bit(enchantment);
+                }
+            }
+        }
+        conflictMasks = masks;
+    }
+
+    /**
+     * The enchantments offered for a material, in menu order. The array is
+     * shared and must not be modified.
+     */
+    public static Enchantment[] forMaterial(Material material) {
+        Enchantment[][] table = byMaterial;
+        return material.ordinal() < table.length ? table[material.ordinal()] : NONE;
+    }
+
+    public static long maskOf(Collection<Enchantment> enchantments) {
+        long mask = 0L;
+        for (Enchantment enchantment : enchantments) {
+            mask |= bit(enchantment);
+        }
+        return mask;
+    }
+
+    /**
+     * Whether the enchantment conflicts with any enchantment in the mask.
+     */
+    public static boolean conflicts(Enchantment enchantment, long mask) {
+        Integer index = bits.get(enchantment);
+        return index != null && (conflictMasks[index] & mask) != 0;
+    }
+
+    public static boolean conflicts(Enchantment first, Enchantment second) {
+        return conflicts(first, bit(second));
+    }
+
+    private static long bit(Enchantment enchantment) {
+        Integer index = bits.get(enchantment);
+        return index != null ? 1L << index : 0L;
+    }
+
+    private static Enchantment[] collect(Material material) {
+        Set<Enchantment> enchantments = new LinkedHashSet<>();
+        String materialName = material.toString();
+
+        // Weapon enchantments
+        if (materialName.contains("SWORD") || materialName.contains("AXE") || material == Material.MACE) {
+            enchantments.addAll(Arrays.asList(
+                Enchantment.SHARPNESS, Enchantment.SMITE, Enchantment.BANE_OF_ARTHROPODS,
+                Enchantment.KNOCKBACK, Enchantment.FIRE_ASPECT, Enchantment.LOOTING,
+                Enchantment.SWEEPING_EDGE, Enchantment.UNBREAKING, Enchantment.MENDING
+            ));
+
+            if (material == Material.MACE) {
+                enchantments.addAll(Arrays.asList(Enchantment.DENSITY, Enchantment.BREACH, Enchantment.WIND_BURST));
+            }
+        }
+
+        // Tool enchantments
+        if (materialName.contains("PICKAXE") || materialName.contains("SHOVEL") || materialName.contains("HOE")) {
+            enchantments.addAll(Arrays.asList(
+                Enchantment.EFFICIENCY, Enchantment.FORTUNE, Enchantment.SILK_TOUCH,
+                Enchantment.UNBREAKING, Enchantment.MENDING
+            ));
+        }
+
+        // Bow enchantments
+        if (material == Material.BOW) {
+            enchantments.addAll(Arrays.asList(
+                Enchantment.POWER, Enchantment.PUNCH, Enchantment.FLAME,
+                Enchantment.INFINITY, Enchantment.UNBREAKING, Enchantment.MENDING
+            ));
+        }
+
+        // Crossbow enchantments
+        if (material == Material.CROSSBOW) {
+            enchantments.addAll(Arrays.asList(
+                Enchantment.QUICK_CHARGE, Enchantment.MULTISHOT, Enchantment.PIERCING,
+                Enchantment.UNBREAKING, Enchantment.MENDING
+            ));
+        }
+
+        // Trident enchantments
+        if (material == Material.TRIDENT) {
+            enchantments.addAll(Arrays.asList(
+                Enchantment.LOYALTY, Enchantment.CHANNELING, Enchantment.RIPTIDE,
+                Enchantment.IMPALING, Enchantment.UNBREAKING, Enchantment.MENDING
+            ));
+        }
+
+        // Armor enchantments
+        if (materialName.contains("HELMET") || materialName.contains("CHESTPLATE") ||
+            materialName.contains("LEGGINGS") || materialName.contains("BOOTS")) {
+            enchantments.addAll(Arrays.asList(
+                Enchantment.PROTECTION, Enchantment.FIRE_PROTECTION, Enchantment.BLAST_PROTECTION,
+                Enchantment.PROJECTILE_PROTECTION, Enchantment.UNBREAKING, Enchantment.MENDING
+            ));
+
+            if (materialName.contains("HELMET")) {
+                enchantments.addAll(Arrays.asList(Enchantment.AQUA_AFFINITY, Enchantment.RESPIRATION));
+            }
+
+            if (materialName.contains("CHESTPLATE")) {
+                enchantments.add(Enchantment.THORNS);
+            }
+
+            if (materialName.contains("BOOTS")) {
+                enchantments.addAll(Arrays.asList(
+                    Enchantment.FEATHER_FALLING, Enchantment.DEPTH_STRIDER,
+                    Enchantment.FROST_WALKER, Enchantment.SOUL_SPEED
+                ));
+            }
+        }
+
+        // Other enchantments
+        if (material == Material.SHIELD || material == Material.FISHING_ROD ||
+            material == Material.SHEARS || material == Material.FLINT_AND_STEEL ||
+            material == Material.ELYTRA) {
+            enchantments.addAll(Arrays.asList(Enchantment.UNBREAKING, Enchantment.MENDING));
+        }
+
+        if (material == Material.FISHING_ROD) {
+            enchantments.addAll(Arrays.asList(Enchantment.LUCK_OF_THE_SEA, Enchantment.LURE));
+        }
+
+        return enchantments.isEmpty() ? NONE : enchantments.toArray(new Enchantment[0]);
+    }
+}
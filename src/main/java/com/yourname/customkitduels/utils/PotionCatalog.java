@@ -0,0 +1,143 @@
+package com.yourname.customkitduels.utils;
+
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.PotionMeta;
+import org.bukkit.potion.PotionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The potion types offered by the potion menu, with their icons for each
+ * bottle type and their extended and upgraded variants, built once at startup.
+ *
+ * Variants are the LONG_ and STRONG_ potion types rather than the deprecated
+ * PotionData flags.
+ */
+public final class PotionCatalog {
+
+    private static final List<PotionType> MENU_TYPES = Collections.unmodifiableList(Arrays.asList(
+        PotionType.WATER,
+        PotionType.MUNDANE,
+        PotionType.THICK,
+        PotionType.AWKWARD,
+        PotionType.NIGHT_VISION,
+        PotionType.INVISIBILITY,
+        PotionType.LEAPING,
+        PotionType.FIRE_RESISTANCE,
+        PotionType.SWIFTNESS,
+        PotionType.SLOWNESS,
+        PotionType.WATER_BREATHING,
+        PotionType.HEALING,
+        PotionType.HARMING,
+        PotionType.POISON,
+        PotionType.REGENERATION,
+        PotionType.STRENGTH,
+        PotionType.WEAKNESS,
+        PotionType.LUCK,
+        PotionType.TURTLE_MASTER,
+        PotionType.SLOW_FALLING
+    ));
+
+    private static final Material[] BOTTLES = {
+        Material.POTION, Material.SPLASH_POTION, Material.LINGERING_POTION
+    };
+
+    private static final Map<Material, ItemStack[]> icons = new EnumMap<>(Material.class);
+    private static PotionType[] extendedTypes = new PotionType[0];
+    private static PotionType[] upgradedTypes = new PotionType[0];
+
+    private PotionCatalog() {
+    }
+
+    public static void load() {
+        PotionType[] potionTypes = PotionType.values();
+        PotionType[] extendedTable = new PotionType[potionTypes.length];
+        PotionType[] upgradedTable = new PotionType[potionTypes.length];
+        for (PotionType potionType : MENU_TYPES) {
+            extendedTable[potionType.ordinal()] = lookup("LONG_" + potionType.name());
+            upgradedTable[potionType.ordinal()] = lookup("STRONG_" + potionType.name());
+        }
+        extendedTypes = extendedTable;
+        upgradedTypes = upgradedTable;
+
+        icons.clear();
+        for (Material bottle : BOTTLES) {
+            ItemStack[] bottleIcons = new ItemStack[MENU_TYPES.size()];
+            for (int i = 0; i < bottleIcons.length; i++) {
+                bottleIcons[i] = createIcon(bottle, MENU_TYPES.get(i));
+            }
+            icons.put(bottle, bottleIcons);
+        }
+    }
+
+    /**
+     * The potion types in menu order.
+     */
+    public static List<PotionType> getMenuTypes() {
+        return MENU_TYPES;
+    }
+
+    /**
+     * Menu icon for the potion type at the given menu index, in the given
+     * bottle. The stack is shared and must not be modified.
+     */
+    public static ItemStack getIcon(Material bottle, int index) {
+        ItemStack[] bottleIcons = icons.get(bottle);
+        return bottleIcons != null ? bottleIcons[index] : null;
+    }
+
+    /**
+     * The extended duration variant of a potion type, or null if it has none.
+     */
+    public static PotionType getExtended(PotionType potionType) {
+        PotionType[] table = extendedTypes;
+        return potionType.ordinal() < table.length ? table[potionType.ordinal()] : null;
+    }
+
+    /**
+     * The upgraded effect variant of a potion type, or null if it has none.
+     */
+    public static PotionType getUpgraded(PotionType potionType) {
+        PotionType[] table = upgradedTypes;
+        return potionType.ordinal() < table.length ? table[potionType.ordinal()] : null;
+    }
+
+    private static PotionType lookup(String name) {
+        try {
+            return PotionType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static ItemStack createIcon(Material bottle, PotionType potionType) {
+        ItemStack icon = new ItemStack(bottle);
+        PotionMeta meta = (PotionMeta) icon.getItemMeta();
+        if (meta == null) return icon;
+
+        meta.setBasePotionType(potionType);
+        meta.setDisplayName(ChatColor.LIGHT_PURPLE + DisplayNames.potion(potionType));
+
+        List<String> lore = new ArrayList<>();
+        lore.add(ChatColor.GRAY + "Click to select this potion type");
+
+        // Only show extended/upgraded options if available
+        if (getExtended(potionType) != null) {
+            lore.add(ChatColor.YELLOW + "Right-click for extended duration");
+        }
+        if (getUpgraded(potionType) != null) {
+            lore.add(ChatColor.YELLOW + "Shift-click for upgraded effect");
+        }
+
+        meta.setLore(lore);
+        icon.setItemMeta(meta);
+        return icon;
+    }
+}
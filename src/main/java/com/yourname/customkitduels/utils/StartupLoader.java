@@ -0,0 +1,94 @@
+package com.yourname.customkitduels.utils;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Runs the storage reads done at startup in parallel on a small pool, then
+ * hands each result back to the main thread, where anything that needs the
+ * server (worlds, items) is set up. Logs how long each step took.
+ */
+public class StartupLoader {
+
+    /**
+     * A read started on the pool.
+     */
+    public static class Task<T> {
+
+        private final String name;
+        private final long started;
+        private Future<T> future;
+        private volatile long readNanos;
+
+        private Task(String name) {
+            this.name = name;
+            this.started = System.nanoTime();
+        }
+    }
+
+    private final Logger logger;
+    private final ExecutorService pool;
+
+    public StartupLoader(Logger logger, int threads) {
+        this.logger = logger;
+        this.pool = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "CustomKitDuels-Loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts a read on the pool. The read must not use the server.
+     */
+    public <T> Task<T> read(String name, Supplier<T> read) {
+        Task<T> task = new Task<>(name);
+        task.future = pool.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return read.get();
+            } finally {
+                task.readNanos = System.nanoTime() - start;
+            }
+        });
+        return task;
+    }
+
+    /**
+     * Waits for a read to finish and passes its result to bind on the calling thread.
+     */
+    public <T> void bind(Task<T> task, Consumer<T> bind) {
+        T result;
+        try {
+            result = task.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + task.name, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to load " + task.name, e.getCause());
+        }
+
+        long bindStart = System.nanoTime();
+        bind.accept(result);
+        long bindNanos = System.nanoTime() - bindStart;
+
+        logger.info(String.format("Loaded %s in %.1fms (read %.1fms, setup %.1fms)", task.name,
+                millis(System.nanoTime() - task.started), millis(task.readNanos), millis(bindNanos)));
+    }
+
+    /**
+     * Stops the pool once the started reads are done.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}